@@ -21,6 +21,7 @@ import fr.uga.pddl4j.parser.RequireKey;
 import fr.uga.pddl4j.plan.Plan;
 import fr.uga.pddl4j.plan.SequentialPlan;
 import fr.uga.pddl4j.planners.AbstractPlanner;
+import fr.uga.pddl4j.planners.InvalidConfigurationException;
 import fr.uga.pddl4j.planners.Planner;
 import fr.uga.pddl4j.planners.PlannerConfiguration;
 import fr.uga.pddl4j.planners.ProblemNotSupportedException;
@@ -35,16 +36,23 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import picocli.CommandLine;
 
+import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.PriorityQueue;
-import java.util.Random;
 import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
 
 /**
  * The class is an example. It shows how to create a simple A* search planner able to
@@ -90,6 +98,94 @@ public class ASP extends AbstractPlanner {
      */
     public static final double DEFAULT_WEIGHT_HEURISTIC = 1.0;
 
+    /**
+     * The ALGORITHM property used for planner configuration.
+     */
+    public static final String ALGORITHM_SETTING = "ALGORITHM";
+
+    /**
+     * The default value of the ALGORITHM property used for planner configuration.
+     */
+    public static final Algorithm DEFAULT_ALGORITHM = Algorithm.COMPARISON;
+
+    /**
+     * The PARTIAL_ORDER_REDUCTION property used for planner configuration.
+     */
+    public static final String PARTIAL_ORDER_REDUCTION_SETTING = "PARTIAL_ORDER_REDUCTION";
+
+    /**
+     * The default value of the PARTIAL_ORDER_REDUCTION property used for planner configuration.
+     */
+    public static final boolean DEFAULT_PARTIAL_ORDER_REDUCTION = false;
+
+    /**
+     * The SYMMETRIES property used for planner configuration.
+     */
+    public static final String SYMMETRIES_SETTING = "SYMMETRIES";
+
+    /**
+     * The default value of the SYMMETRIES property used for planner configuration.
+     */
+    public static final boolean DEFAULT_SYMMETRIES = false;
+
+    /**
+     * The SEED property used for planner configuration. If the property is not defined, a new seed is drawn
+     * for each Monte Carlo search.
+     */
+    public static final String SEED_SETTING = "SEED";
+
+    /**
+     * The REPLAY property used for planner configuration.
+     */
+    public static final String REPLAY_SETTING = "REPLAY";
+
+    /**
+     * The default value of the REPLAY property used for planner configuration: no simulation is replayed.
+     */
+    public static final int DEFAULT_REPLAY = 0;
+
+    /**
+     * The RESULT_STORE property used for planner configuration.
+     */
+    public static final String RESULT_STORE_SETTING = "RESULT_STORE";
+
+    /**
+     * The default value of the RESULT_STORE property used for planner configuration. The value
+     * <code>NONE</code> disables the result store.
+     */
+    public static final String DEFAULT_RESULT_STORE = "benchmarks";
+
+    /**
+     * The name of the CSV file in which the comparisons export their results.
+     */
+    public static final String CSV_FILE = "comparison_results.csv";
+
+    /**
+     * The search algorithms available in the planner.
+     */
+    public enum Algorithm {
+        /**
+         * Runs A* and Monte Carlo search and compares their results.
+         */
+        COMPARISON,
+        /**
+         * Runs only the A* search.
+         */
+        ASTAR,
+        /**
+         * Runs only the Monte Carlo search.
+         */
+        MONTE_CARLO,
+        /**
+         * Runs only the enforced hill-climbing search with helpful actions.
+         */
+        ENFORCED_HILL_CLIMBING,
+        /**
+         * Runs only the greedy best-first search with deferred evaluation and preferred operators.
+         */
+        GREEDY_BEST_FIRST
+    }
+
     /**
      * The weight of the heuristic.
      */
@@ -100,11 +196,86 @@ public class ASP extends AbstractPlanner {
      */
     private StateHeuristic.Name heuristic;
 
+    /**
+     * The name of the incremental heuristic used by the planner or null if the heuristic is not incremental.
+     */
+    private IncrementalHeuristic.Name incrementalHeuristic;
+
+    /**
+     * Whether the planner uses the landmark-count heuristic.
+     */
+    private boolean landmarkHeuristic;
+
+    /**
+     * The search algorithm used by the planner.
+     */
+    private Algorithm algorithm;
+
+    /**
+     * Whether the successors are pruned with strong stubborn sets.
+     */
+    private boolean partialOrderReduction;
+
+    /**
+     * Whether the closed lists compare the canonical forms of the states under the object symmetries.
+     */
+    private boolean symmetries;
+
+    /**
+     * The seed of the random generator of the Monte Carlo search or null to draw a new seed for each search.
+     */
+    private Long seed;
+
+    /**
+     * The index of the Monte Carlo simulation to replay or 0 to run a complete Monte Carlo search.
+     */
+    private int replay;
+
+    /**
+     * The directory of the benchmark result store or <code>NONE</code> if the results are not stored.
+     */
+    private String resultStore;
+
     /**
      * Statistics for Monte Carlo search.
      */
     private int montecarloNodesExplored = 0;
 
+    /**
+     * Statistics for Monte Carlo search: seed of the random generator of the last search.
+     */
+    private long montecarloSeed = 0;
+
+    /**
+     * Statistics for enforced hill-climbing search: number of fallbacks to A* search.
+     */
+    private int enforcedHillClimbingFallbacks = 0;
+
+    /**
+     * Statistics for heuristic search: number of nodes expanded.
+     */
+    private int nodesExpanded = 0;
+
+    /**
+     * Statistics for heuristic search: number of heuristic evaluations.
+     */
+    private int heuristicEvaluations = 0;
+
+    /**
+     * Statistics for partial-order reduction: number of states whose successors were pruned.
+     */
+    private int prunedStates = 0;
+
+    /**
+     * Statistics for partial-order reduction: number of applicable actions pruned.
+     */
+    private int prunedActions = 0;
+
+    /**
+     * Statistics for symmetry pruning: number of successors pruned because a symmetric state was closed.
+     */
+    private int symmetricStatesPruned = 0;
+
     /**
      * Creates a new A* search planner with the default configuration.
      */
@@ -142,11 +313,53 @@ public class ASP extends AbstractPlanner {
      *
      * @param heuristic the name of the heuristic.
      */
-    @CommandLine.Option(names = {"-e", "--heuristic"}, defaultValue = "FAST_FORWARD",
-        description = "Set the heuristic : AJUSTED_SUM, AJUSTED_SUM2, AJUSTED_SUM2M, COMBO, "
-            + "MAX, FAST_FORWARD SET_LEVEL, SUM, SUM_MUTEX (preset: FAST_FORWARD)")
     public void setHeuristic(StateHeuristic.Name heuristic) {
         this.heuristic = heuristic;
+        this.incrementalHeuristic = null;
+        this.landmarkHeuristic = false;
+    }
+
+    /**
+     * Set the name of heuristic used by the planner to the solve a planning problem. The name is either a
+     * heuristic of the PDDL4J library, an incremental heuristic or the landmark-count heuristic. In the two
+     * latter cases, the equivalent heuristic of the library, or FAST_FORWARD for the landmark-count heuristic,
+     * is used by the searches of the library.
+     *
+     * @param name the name of the heuristic.
+     * @throws IllegalArgumentException if the name is not the name of a heuristic.
+     */
+    @CommandLine.Option(names = {"-e", "--heuristic"}, defaultValue = "FAST_FORWARD",
+        description = "Set the heuristic : AJUSTED_SUM, AJUSTED_SUM2, AJUSTED_SUM2M, COMBO, "
+            + "MAX, FAST_FORWARD SET_LEVEL, SUM, SUM_MUTEX, INCREMENTAL_FAST_FORWARD, "
+            + "INCREMENTAL_SUM, LANDMARK_COUNT (preset: FAST_FORWARD)")
+    public void setHeuristicName(final String name) {
+        if (LandmarkHeuristic.NAME.equals(name)) {
+            this.setHeuristic(StateHeuristic.Name.FAST_FORWARD);
+            this.landmarkHeuristic = true;
+            return;
+        }
+        for (IncrementalHeuristic.Name incremental : IncrementalHeuristic.Name.values()) {
+            if (incremental.toString().equals(name)) {
+                this.setHeuristic(incremental.getEquivalent());
+                this.incrementalHeuristic = incremental;
+                return;
+            }
+        }
+        this.setHeuristic(StateHeuristic.Name.valueOf(name));
+    }
+
+    /**
+     * Returns the name of the heuristic used by the planner including the incremental heuristics.
+     *
+     * @return the name of the heuristic used by the planner including the incremental heuristics.
+     */
+    public final String getHeuristicName() {
+        if (this.landmarkHeuristic) {
+            return LandmarkHeuristic.NAME;
+        }
+        return this.incrementalHeuristic != null
+            ? this.incrementalHeuristic.toString()
+            : this.getHeuristic().toString();
     }
 
     /**
@@ -167,6 +380,199 @@ public class ASP extends AbstractPlanner {
         return this.heuristicWeight;
     }
 
+    /**
+     * Sets the search algorithm used by the planner to solve a planning problem.
+     *
+     * @param algorithm the search algorithm.
+     */
+    @CommandLine.Option(names = {"-a", "--algorithm"}, defaultValue = "COMPARISON",
+        description = "Set the search algorithm : COMPARISON, ASTAR, MONTE_CARLO, "
+            + "ENFORCED_HILL_CLIMBING, GREEDY_BEST_FIRST (preset: COMPARISON)")
+    public void setAlgorithm(Algorithm algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    /**
+     * Returns the search algorithm used by the planner to solve a planning problem.
+     *
+     * @return the search algorithm used by the planner to solve a planning problem.
+     */
+    public final Algorithm getAlgorithm() {
+        return this.algorithm;
+    }
+
+    /**
+     * Sets if the successors generated by the searches are pruned with strong stubborn sets.
+     *
+     * @param partialOrderReduction <code>true</code> to prune the successors, <code>false</code> otherwise.
+     */
+    @CommandLine.Option(names = {"-r", "--partial-order-reduction"}, defaultValue = "false",
+        description = "Prune the successors with strong stubborn sets (preset: false)")
+    public void setPartialOrderReduction(final boolean partialOrderReduction) {
+        this.partialOrderReduction = partialOrderReduction;
+    }
+
+    /**
+     * Returns if the successors generated by the searches are pruned with strong stubborn sets.
+     *
+     * @return <code>true</code> if the successors are pruned, <code>false</code> otherwise.
+     */
+    public final boolean isPartialOrderReduction() {
+        return this.partialOrderReduction;
+    }
+
+    /**
+     * Sets if the closed lists of the searches compare the canonical forms of the states under the object
+     * symmetries of the problem.
+     *
+     * @param symmetries <code>true</code> to prune the symmetric states, <code>false</code> otherwise.
+     */
+    @CommandLine.Option(names = {"-s", "--symmetries"}, defaultValue = "false",
+        description = "Prune the states symmetric to a closed state (preset: false)")
+    public void setSymmetries(final boolean symmetries) {
+        this.symmetries = symmetries;
+    }
+
+    /**
+     * Returns if the closed lists of the searches compare the canonical forms of the states under the object
+     * symmetries of the problem.
+     *
+     * @return <code>true</code> if the symmetric states are pruned, <code>false</code> otherwise.
+     */
+    public final boolean isSymmetries() {
+        return this.symmetries;
+    }
+
+    /**
+     * Sets the seed of the random generator of the Monte Carlo search. The simulation <code>i</code> draws its
+     * actions from the <code>i</code>-th split of a <code>SplittableRandom</code> created with this seed, so
+     * a search with a given seed always runs the same simulations.
+     *
+     * @param seed the seed or null to draw a new seed for each search.
+     */
+    @CommandLine.Option(names = {"--seed"}, paramLabel = "<seed>",
+        description = "Set the seed of the Monte Carlo search (preset: a new seed for each search)")
+    public void setSeed(final Long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the seed of the random generator of the Monte Carlo search.
+     *
+     * @return the seed or null if a new seed is drawn for each search.
+     */
+    public final Long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * Sets the index of the Monte Carlo simulation to replay. When the index is positive, the Monte Carlo
+     * search runs only this simulation with the seed of the planner and returns its plan.
+     *
+     * @param replay the index of the simulation, starting from 1, or 0 to run a complete search.
+     */
+    @CommandLine.Option(names = {"--replay"}, defaultValue = "0", paramLabel = "<simulation>",
+        description = "Replay only the specified Monte Carlo simulation of the seed (preset: 0, no replay)")
+    public void setReplay(final int replay) {
+        if (replay < 0) {
+            throw new IllegalArgumentException("Replay < 0");
+        }
+        this.replay = replay;
+    }
+
+    /**
+     * Returns the index of the Monte Carlo simulation to replay.
+     *
+     * @return the index of the simulation or 0 if a complete search is run.
+     */
+    public final int getReplay() {
+        return this.replay;
+    }
+
+    /**
+     * Sets the directory of the benchmark result store in which the metrics of each search are appended.
+     *
+     * @param resultStore the directory of the result store or <code>NONE</code> to disable it.
+     */
+    @CommandLine.Option(names = {"--store"}, defaultValue = "benchmarks", paramLabel = "<dir>",
+        description = "Set the directory of the benchmark result store, NONE to disable it (preset: benchmarks)")
+    public void setResultStore(final String resultStore) {
+        this.resultStore = resultStore;
+    }
+
+    /**
+     * Returns the directory of the benchmark result store.
+     *
+     * @return the directory of the result store or <code>NONE</code> if the results are not stored.
+     */
+    public final String getResultStore() {
+        return this.resultStore;
+    }
+
+    /**
+     * Returns the seed of the random generator of the last Monte Carlo search.
+     *
+     * @return the seed of the random generator of the last Monte Carlo search.
+     */
+    public final long getMontecarloSeed() {
+        return this.montecarloSeed;
+    }
+
+    /**
+     * Returns the number of fallbacks to A* search of the last enforced hill-climbing search.
+     *
+     * @return the number of fallbacks to A* search of the last enforced hill-climbing search.
+     */
+    public final int getEnforcedHillClimbingFallbacks() {
+        return this.enforcedHillClimbingFallbacks;
+    }
+
+    /**
+     * Returns the number of nodes expanded by the last heuristic search.
+     *
+     * @return the number of nodes expanded by the last heuristic search.
+     */
+    public final int getNodesExpanded() {
+        return this.nodesExpanded;
+    }
+
+    /**
+     * Returns the number of heuristic evaluations of the last heuristic search.
+     *
+     * @return the number of heuristic evaluations of the last heuristic search.
+     */
+    public final int getHeuristicEvaluations() {
+        return this.heuristicEvaluations;
+    }
+
+    /**
+     * Returns the number of states whose successors were pruned by the last heuristic search.
+     *
+     * @return the number of states whose successors were pruned by the last heuristic search.
+     */
+    public final int getPrunedStates() {
+        return this.prunedStates;
+    }
+
+    /**
+     * Returns the number of applicable actions pruned by the last heuristic search.
+     *
+     * @return the number of applicable actions pruned by the last heuristic search.
+     */
+    public final int getPrunedActions() {
+        return this.prunedActions;
+    }
+
+    /**
+     * Returns the number of successors pruned by the last heuristic search because a symmetric state was
+     * closed.
+     *
+     * @return the number of successors pruned because a symmetric state was closed.
+     */
+    public final int getSymmetricStatesPruned() {
+        return this.symmetricStatesPruned;
+    }
+
     /**
      * Instantiates the planning problem from a parsed problem.
      *
@@ -188,6 +594,15 @@ public class ASP extends AbstractPlanner {
      */
     @Override
     public Plan solve(final Problem problem) {
+        if (this.getAlgorithm() != Algorithm.COMPARISON) {
+            final Plan plan = this.search(problem);
+            final boolean montecarlo = this.getAlgorithm() == Algorithm.MONTE_CARLO;
+            this.storeResult(this.getAlgorithm().toString(), plan, this.getStatistics().getTimeToSearch(),
+                montecarlo ? this.montecarloNodesExplored : this.nodesExpanded,
+                this.getStatistics().getMemoryUsedToSearch(), montecarlo ? 0L : (long) this.heuristicEvaluations);
+            return plan;
+        }
+
         LOGGER.info("========================================\n");
         LOGGER.info("= COMPARISON: A* vs Monte Carlo Search =\n");
         LOGGER.info("========================================\n\n");
@@ -198,11 +613,17 @@ public class ASP extends AbstractPlanner {
             this.getHeuristic(), this.getHeuristicWeight(), this.getTimeout());
         LOGGER.info("* Starting A* search\n");
         
+        final boolean storing = this.isStoringResults();
+        final HeapSampler astarSampler = storing ? new HeapSampler() : null;
         final long astarStartTime = System.currentTimeMillis();
         Plan astarPlan = search.searchPlan(problem);
         final long astarEndTime = System.currentTimeMillis();
+        final long astarPeakMemory = astarSampler != null ? astarSampler.stop() : 0L;
         final double astarTime = (astarEndTime - astarStartTime) / 1000.0;
         
+        // The A* search of the library does not report its heuristic evaluations
+        this.storeResult(Algorithm.ASTAR + "_PDDL4J", astarPlan, astarEndTime - astarStartTime,
+            search.getExploredNodes(), astarPeakMemory, null);
         if (astarPlan != null) {
             LOGGER.info("* A* search succeeded\n");
             LOGGER.info("* A* plan length: " + astarPlan.size() + " actions\n");
@@ -221,11 +642,14 @@ public class ASP extends AbstractPlanner {
         int mcNodesExplored = 0;
         
         try {
+            final HeapSampler mcSampler = storing ? new HeapSampler() : null;
             final long mcStartTime = System.currentTimeMillis();
             montecarloPlan = this.montecarlo(problem);
             final long mcEndTime = System.currentTimeMillis();
             montecarloTime = (mcEndTime - mcStartTime) / 1000.0;
             mcNodesExplored = this.montecarloNodesExplored;
+            this.storeResult(Algorithm.MONTE_CARLO.toString(), montecarloPlan, mcEndTime - mcStartTime,
+                mcNodesExplored, mcSampler != null ? mcSampler.stop() : 0L, 0L);
             
             if (montecarloPlan != null) {
                 LOGGER.info("* Monte Carlo plan length: " + montecarloPlan.size() + " actions\n");
@@ -288,6 +712,70 @@ public class ASP extends AbstractPlanner {
         return astarPlan != null ? astarPlan : montecarloPlan;
     }
     
+    /**
+     * Search a solution plan with the single algorithm selected in the configuration of the planner.
+     *
+     * @param problem the problem to solve.
+     * @return the plan found or null if no plan was found.
+     */
+    private Plan search(final Problem problem) {
+        LOGGER.info("* Starting " + this.getAlgorithm() + " search\n");
+        Plan plan = null;
+        this.nodesExpanded = 0;
+        this.heuristicEvaluations = 0;
+        this.prunedStates = 0;
+        this.prunedActions = 0;
+        this.symmetricStatesPruned = 0;
+        // We measure the peak memory only when the result is stored because the sampler runs a full garbage
+        // collection and the heap is shared by all the searches running in the JVM
+        final HeapSampler sampler = this.isStoringResults() ? new HeapSampler() : null;
+        final long startTime = System.currentTimeMillis();
+        try {
+            switch (this.getAlgorithm()) {
+                case ASTAR:
+                    plan = this.astar(problem);
+                    break;
+                case MONTE_CARLO:
+                    plan = this.montecarlo(problem);
+                    break;
+                case ENFORCED_HILL_CLIMBING:
+                    plan = this.enforcedHillClimbing(problem);
+                    LOGGER.info("* Enforced hill-climbing fallbacks to A*: "
+                        + this.enforcedHillClimbingFallbacks + "\n");
+                    break;
+                case GREEDY_BEST_FIRST:
+                    plan = this.greedyBestFirst(problem);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown algorithm " + this.getAlgorithm());
+            }
+        } catch (ProblemNotSupportedException e) {
+            LOGGER.error("* " + this.getAlgorithm() + " search failed: " + e.getMessage() + "\n");
+        }
+        final long endTime = System.currentTimeMillis();
+        this.getStatistics().setTimeToSearch(endTime - startTime);
+        if (sampler != null) {
+            this.getStatistics().setMemoryUsedToSearch(sampler.stop());
+        }
+        if (this.getAlgorithm() != Algorithm.MONTE_CARLO) {
+            LOGGER.info("* Nodes expanded: " + this.nodesExpanded + ", heuristic evaluations: "
+                + this.heuristicEvaluations + "\n");
+        }
+        if (this.isPartialOrderReduction()) {
+            LOGGER.info("* Partial-order reduction pruned " + this.prunedActions + " actions in "
+                + this.prunedStates + " of " + this.nodesExpanded + " expanded states\n");
+        }
+        if (this.isSymmetries()) {
+            LOGGER.info("* Symmetry pruning pruned " + this.symmetricStatesPruned + " successors\n");
+        }
+        if (plan != null) {
+            LOGGER.info("* " + this.getAlgorithm() + " search succeeded\n");
+        } else {
+            LOGGER.info("* " + this.getAlgorithm() + " search failed\n");
+        }
+        return plan;
+    }
+
     /**
      * Export comparison results to CSV file for visualization.
      *
@@ -302,7 +790,7 @@ public class ASP extends AbstractPlanner {
                                     double astarTime, double montecarloTime,
                                     int astarNodes, int mcSimulations) {
         try {
-            PrintWriter csvWriter = new PrintWriter(new FileWriter("comparison_results.csv"));
+            PrintWriter csvWriter = new PrintWriter(new FileWriter(ASP.CSV_FILE));
             csvWriter.println("Algorithm,Plan_Length,Time_Seconds,Nodes_Simulations,Success");
             csvWriter.println("A*," +
                 (astarPlan != null ? astarPlan.size() : 0) + "," +
@@ -316,7 +804,7 @@ public class ASP extends AbstractPlanner {
                 (montecarloPlan != null ? "1" : "0"));
             csvWriter.close();
             
-            LOGGER.info("\n* Results exported to comparison_results.csv\n");
+            LOGGER.info("\n* Results exported to " + ASP.CSV_FILE + "\n");
             LOGGER.info("* Run 'python compare_algorithms.py' to generate charts\n");
             
         } catch (IOException e) {
@@ -324,18 +812,96 @@ public class ASP extends AbstractPlanner {
         }
     }
 
+    /**
+     * Appends the metrics of a search to the benchmark result store, unless the store is disabled or the
+     * problem was not read from a file.
+     *
+     * @param algorithm      the name of the search algorithm.
+     * @param plan           the plan found or null if no plan was found.
+     * @param time           the search time in milliseconds.
+     * @param nodes          the number of nodes expanded or of simulations performed.
+     * @param peakMemory     the peak heap memory used during the search in bytes.
+     * @param heuristicCalls the number of heuristic evaluations or null if it is unknown.
+     */
+    private void storeResult(final String algorithm, final Plan plan, final long time, final long nodes,
+                             final long peakMemory, final Long heuristicCalls) {
+        if (!this.isStoringResults()) {
+            return;
+        }
+
+        // We key the row by the settings that may change the metrics, including the seed of the Monte Carlo
+        // search whose runs are reproducible only with a fixed seed
+        final PlannerConfiguration config = this.getConfiguration();
+        final List<String> ignored = List.of(Planner.DOMAIN_SETTING, Planner.PROBLEM_SETTING,
+            Planner.LOG_LEVEL_SETTING, ASP.ALGORITHM_SETTING, ASP.SEED_SETTING, ASP.RESULT_STORE_SETTING);
+        final boolean montecarlo = algorithm.equals(Algorithm.MONTE_CARLO.toString());
+        final StringBuilder configuration = new StringBuilder();
+        for (String key : new TreeSet<>(config.stringPropertyNames())) {
+            if (!ignored.contains(key) || montecarlo && key.equals(ASP.SEED_SETTING)) {
+                configuration.append(configuration.length() > 0 ? ";" : "").append(key).append('=')
+                    .append(config.getProperty(key));
+            }
+        }
+        final Map<String, String> row = new HashMap<>();
+        final File problemFile = this.getProblemFile().getAbsoluteFile();
+        row.put(ResultStore.PROBLEM, problemFile.getParentFile().getName() + "/" + problemFile.getName());
+        row.put(ResultStore.ALGORITHM, algorithm);
+        row.put(ResultStore.CONFIGURATION, configuration.toString());
+        row.put(ResultStore.REVISION, ResultStore.getRevision());
+        row.put(ResultStore.TIMESTAMP, Instant.now().toString());
+        row.put(ResultStore.SUCCESS, plan != null ? "1" : "0");
+        row.put(ResultStore.TIME, Long.toString(time));
+        row.put(ResultStore.PLAN_LENGTH, plan != null ? Integer.toString(plan.size()) : "");
+        row.put(ResultStore.NODES, Long.toString(nodes));
+        row.put(ResultStore.PEAK_MEMORY, Long.toString(peakMemory));
+        row.put(ResultStore.HEURISTIC_CALLS, heuristicCalls != null ? Long.toString(heuristicCalls) : "");
+        try {
+            new ResultStore(new File(this.getResultStore())).append(row);
+            LOGGER.info("* Results of " + algorithm + " appended to " + this.getResultStore() + "\n");
+        } catch (IOException e) {
+            LOGGER.error("Failed to store results: " + e.getMessage() + "\n");
+        }
+    }
+
+    /**
+     * Returns if the results of the searches are appended to the benchmark result store, i.e., if the store
+     * is enabled and the problem was read from a file.
+     *
+     * @return <code>true</code> if the results of the searches are stored.
+     */
+    private boolean isStoringResults() {
+        return this.getResultStore() != null && !this.getResultStore().equals("NONE")
+            && this.getProblemFile() != null && this.getProblemFile().exists();
+    }
+
     /**
      * Checks the planner configuration and returns if the configuration is valid.
      * A configuration is valid if (1) the domain and the problem files exist and
      * can be read, (2) the timeout is greater than 0, (3) the weight of the
-     * heuristic is greater than 0 and (4) the heuristic is a not null.
+     * heuristic is greater than 0, (4) the heuristic is a not null, (5) the algorithm is not null and (6)
+     * a seed is set if a Monte Carlo simulation is replayed.
      *
      * @return <code>true</code> if the configuration is valid <code>false</code> otherwise.
      */
     public boolean hasValidConfiguration() {
         return super.hasValidConfiguration()
             && this.getHeuristicWeight() > 0.0
-            && this.getHeuristic() != null;
+            && this.getHeuristic() != null
+            && this.getAlgorithm() != null
+            && (this.getReplay() == 0 || this.getSeed() != null);
+    }
+
+    /**
+     * Throws the exception describing why the configuration of the planner is not valid.
+     *
+     * @throws InvalidConfigurationException if the configuration of the planner is not valid.
+     */
+    @Override
+    protected void throwInvalidConfigurationException() throws InvalidConfigurationException {
+        super.throwInvalidConfigurationException();
+        if (this.getReplay() > 0 && this.getSeed() == null) {
+            throw new InvalidConfigurationException("Replay requires a seed");
+        }
     }
 
     /**
@@ -349,6 +915,12 @@ public class ASP extends AbstractPlanner {
         config.setProperty(ASP.HEURISTIC_SETTING, ASP.DEFAULT_HEURISTIC.toString());
         config.setProperty(ASP.WEIGHT_HEURISTIC_SETTING,
             Double.toString(ASP.DEFAULT_WEIGHT_HEURISTIC));
+        config.setProperty(ASP.ALGORITHM_SETTING, ASP.DEFAULT_ALGORITHM.toString());
+        config.setProperty(ASP.PARTIAL_ORDER_REDUCTION_SETTING,
+            Boolean.toString(ASP.DEFAULT_PARTIAL_ORDER_REDUCTION));
+        config.setProperty(ASP.SYMMETRIES_SETTING, Boolean.toString(ASP.DEFAULT_SYMMETRIES));
+        config.setProperty(ASP.REPLAY_SETTING, Integer.toString(ASP.DEFAULT_REPLAY));
+        config.setProperty(ASP.RESULT_STORE_SETTING, ASP.DEFAULT_RESULT_STORE);
         return config;
     }
 
@@ -360,8 +932,16 @@ public class ASP extends AbstractPlanner {
     @Override
     public PlannerConfiguration getConfiguration() {
         final PlannerConfiguration config = super.getConfiguration();
-        config.setProperty(ASP.HEURISTIC_SETTING, this.getHeuristic().toString());
+        config.setProperty(ASP.HEURISTIC_SETTING, this.getHeuristicName());
         config.setProperty(ASP.WEIGHT_HEURISTIC_SETTING, Double.toString(this.getHeuristicWeight()));
+        config.setProperty(ASP.ALGORITHM_SETTING, this.getAlgorithm().toString());
+        config.setProperty(ASP.PARTIAL_ORDER_REDUCTION_SETTING, Boolean.toString(this.isPartialOrderReduction()));
+        config.setProperty(ASP.SYMMETRIES_SETTING, Boolean.toString(this.isSymmetries()));
+        if (this.getSeed() != null) {
+            config.setProperty(ASP.SEED_SETTING, Long.toString(this.getSeed()));
+        }
+        config.setProperty(ASP.REPLAY_SETTING, Integer.toString(this.getReplay()));
+        config.setProperty(ASP.RESULT_STORE_SETTING, this.getResultStore());
         return config;
     }
 
@@ -383,8 +963,39 @@ public class ASP extends AbstractPlanner {
         if (configuration.getProperty(ASP.HEURISTIC_SETTING) == null) {
             this.setHeuristic(ASP.DEFAULT_HEURISTIC);
         } else {
-            this.setHeuristic(StateHeuristic.Name.valueOf(configuration.getProperty(
-                ASP.HEURISTIC_SETTING)));
+            this.setHeuristicName(configuration.getProperty(ASP.HEURISTIC_SETTING));
+        }
+        if (configuration.getProperty(ASP.ALGORITHM_SETTING) == null) {
+            this.setAlgorithm(ASP.DEFAULT_ALGORITHM);
+        } else {
+            this.setAlgorithm(Algorithm.valueOf(configuration.getProperty(
+                ASP.ALGORITHM_SETTING)));
+        }
+        if (configuration.getProperty(ASP.PARTIAL_ORDER_REDUCTION_SETTING) == null) {
+            this.setPartialOrderReduction(ASP.DEFAULT_PARTIAL_ORDER_REDUCTION);
+        } else {
+            this.setPartialOrderReduction(Boolean.parseBoolean(configuration.getProperty(
+                ASP.PARTIAL_ORDER_REDUCTION_SETTING)));
+        }
+        if (configuration.getProperty(ASP.SYMMETRIES_SETTING) == null) {
+            this.setSymmetries(ASP.DEFAULT_SYMMETRIES);
+        } else {
+            this.setSymmetries(Boolean.parseBoolean(configuration.getProperty(ASP.SYMMETRIES_SETTING)));
+        }
+        if (configuration.getProperty(ASP.SEED_SETTING) == null) {
+            this.setSeed(null);
+        } else {
+            this.setSeed(Long.parseLong(configuration.getProperty(ASP.SEED_SETTING)));
+        }
+        if (configuration.getProperty(ASP.REPLAY_SETTING) == null) {
+            this.setReplay(ASP.DEFAULT_REPLAY);
+        } else {
+            this.setReplay(Integer.parseInt(configuration.getProperty(ASP.REPLAY_SETTING)));
+        }
+        if (configuration.getProperty(ASP.RESULT_STORE_SETTING) == null) {
+            this.setResultStore(ASP.DEFAULT_RESULT_STORE);
+        } else {
+            this.setResultStore(configuration.getProperty(ASP.RESULT_STORE_SETTING));
         }
     }
 
@@ -412,19 +1023,37 @@ public class ASP extends AbstractPlanner {
      * @throws ProblemNotSupportedException if the problem to solve is not supported by the planner.
      */
     public Plan astar(Problem problem) throws ProblemNotSupportedException {
+        return this.astar(problem, this.getTimeout() * 1000);
+    }
+
+    /**
+     * Search a solution plan for a planning problem using an A* search strategy within a specified time.
+     *
+     * @param problem the problem to solve.
+     * @param timeout the timeout in ms allocated to the search.
+     * @return a plan solution for the problem or null if there is no solution or the timeout is reached.
+     * @throws ProblemNotSupportedException if the problem to solve is not supported by the planner.
+     */
+    private Plan astar(final Problem problem, final int timeout) throws ProblemNotSupportedException {
         // Check if the problem is supported by the planner
         if (!this.isSupported(problem)) {
             throw new ProblemNotSupportedException("Problem not supported");
         }
 
         // First we create an instance of the heuristic to use to guide the search
-        final StateHeuristic heuristic = StateHeuristic.getInstance(this.getHeuristic(), problem);
+        final StateHeuristic heuristic = this.createHeuristic(problem);
+
+        // We create the strong stubborn sets used to prune the successors if required
+        final StubbornSets stubbornSets = this.createStubbornSets(problem);
+
+        // We detect the object symmetries used to prune the symmetric states if required
+        final Symmetries symmetries = this.createSymmetries(problem);
 
         // We get the initial state from the planning problem
         final State init = new State(problem.getInitialState());
 
-        // We initialize the closed list of nodes (store the nodes explored)
-        final Set<Node> close = new HashSet<>();
+        // We initialize the closed list of states (store the canonical forms of the nodes explored)
+        final Set<State> close = new HashSet<>();
 
         // We initialize the opened list to store the pending node according to function f
         final double weight = this.getHeuristicWeight();
@@ -438,49 +1067,48 @@ public class ASP extends AbstractPlanner {
 
         // We create the root node of the tree search
         final Node root = new Node(init, null, -1, 0, heuristic.estimate(init, problem.getGoal()));
+        this.heuristicEvaluations++;
 
         // We add the root to the list of pending nodes
         open.add(root);
         Plan plan = null;
 
-        // We set the timeout in ms allocated to the search
-        final int timeout = this.getTimeout() * 1000;
-        long time = 0;
+        // We record the start time to stop the search when the timeout is reached
+        final long startTime = System.currentTimeMillis();
 
         // We start the search
-        while (!open.isEmpty() && plan == null && time < timeout) {
+        while (!open.isEmpty() && plan == null && System.currentTimeMillis() - startTime < timeout) {
 
             // We pop the first node in the pending list open
             final Node current = open.poll();
-            close.add(current);
+            close.add(symmetries != null ? symmetries.canonicalize(current) : current);
+            this.nodesExpanded++;
 
             // If the goal is satisfied in the current node then extract the search and return it
             if (current.satisfy(problem.getGoal())) {
                 return this.extractPlan(current, problem);
-            } else { // Else we try to apply the actions of the problem to the current node
-                for (int i = 0; i < problem.getActions().size(); i++) {
+            } else { // Else we try to apply the applicable actions of the problem to the current node
+                for (int i : this.getSuccessorActions(problem, current, stubbornSets)) {
                     // We get the actions of the problem
                     Action a = problem.getActions().get(i);
-                    // If the action is applicable in the current node
-                    if (a.isApplicable(current)) {
-                        Node next = new Node(current);
-                        // We apply the effect of the action
-                        final List<ConditionalEffect> effects = a.getConditionalEffects();
-                        for (ConditionalEffect ce : effects) {
-                            if (current.satisfy(ce.getCondition())) {
-                                next.apply(ce.getEffect());
-                            }
-                        }
-                        // We set the new child node information
-                        final double g = current.getCost() + 1;
-                        if (!close.contains(next)) {
-                            next.setCost(g);
-                            next.setParent(current);
-                            next.setAction(i);
-                            next.setHeuristic(heuristic.estimate(next, problem.getGoal()));
-                            open.add(next);
+                    Node next = new Node(current);
+                    // We apply the effect of the action
+                    final List<ConditionalEffect> effects = a.getConditionalEffects();
+                    for (ConditionalEffect ce : effects) {
+                        if (current.satisfy(ce.getCondition())) {
+                            next.apply(ce.getEffect());
                         }
                     }
+                    // We set the new child node information
+                    final double g = current.getCost() + 1;
+                    if (!this.isClosed(next, close, symmetries)) {
+                        next.setCost(g);
+                        next.setParent(current);
+                        next.setAction(i);
+                        next.setHeuristic(heuristic.estimate(next, problem.getGoal()));
+                        this.heuristicEvaluations++;
+                        open.add(next);
+                    }
                 }
             }
         }
@@ -489,6 +1117,144 @@ public class ASP extends AbstractPlanner {
         return plan;
     }
 
+    /**
+     * Creates the heuristic used to guide the searches of the planner.
+     *
+     * @param problem the problem to solve.
+     * @return the heuristic used to guide the searches of the planner.
+     */
+    private StateHeuristic createHeuristic(final Problem problem) {
+        if (this.landmarkHeuristic) {
+            final LandmarkHeuristic heuristic = new LandmarkHeuristic(problem);
+            LOGGER.info("* Landmark extraction found " + heuristic.size() + " landmarks\n");
+            return heuristic;
+        }
+        if (this.incrementalHeuristic != null) {
+            return new IncrementalHeuristic(this.incrementalHeuristic, problem);
+        }
+        return StateHeuristic.getInstance(this.getHeuristic(), problem);
+    }
+
+    /**
+     * Creates the strong stubborn sets used to prune the successors if the partial-order reduction is enabled.
+     *
+     * @param problem the problem to solve.
+     * @return the strong stubborn sets or null if the partial-order reduction is disabled.
+     */
+    private StubbornSets createStubbornSets(final Problem problem) {
+        if (!this.isPartialOrderReduction()) {
+            return null;
+        }
+        final StubbornSets stubbornSets = new StubbornSets(problem);
+        if (!stubbornSets.isEnabled()) {
+            LOGGER.info("* Partial-order reduction disabled: the problem has conditional effects\n");
+            return null;
+        }
+        return stubbornSets;
+    }
+
+    /**
+     * Detects the object symmetries of a problem if the symmetry pruning is enabled.
+     *
+     * @param problem the problem to solve.
+     * @return the symmetries of the problem or null if the symmetry pruning is disabled or no symmetry exists.
+     */
+    private Symmetries createSymmetries(final Problem problem) {
+        if (!this.isSymmetries()) {
+            return null;
+        }
+        final Symmetries symmetries = new Symmetries(problem);
+        LOGGER.info("* Symmetry detection found " + symmetries.size() + " object transpositions "
+            + symmetries.getTranspositions() + "\n");
+        return symmetries.size() > 0 ? symmetries : null;
+    }
+
+    /**
+     * Returns if a state or a symmetric state is in a closed list.
+     *
+     * @param state      the state.
+     * @param close      the closed list containing the canonical forms of the states.
+     * @param symmetries the symmetries of the problem or null if the symmetry pruning is disabled.
+     * @return <code>true</code> if the state or a symmetric state is closed, <code>false</code> otherwise.
+     */
+    private boolean isClosed(final State state, final Set<State> close, final Symmetries symmetries) {
+        if (close.contains(state)) {
+            return true;
+        }
+        if (symmetries != null && close.contains(symmetries.canonicalize(state))) {
+            this.symmetricStatesPruned++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Creates the relaxed planning graph used to compute the helpful actions if the heuristic cannot compute
+     * them. The incremental heuristics compute the helpful actions on their own graph.
+     *
+     * @param problem   the problem to solve.
+     * @param heuristic the heuristic used to guide the search.
+     * @return the relaxed planning graph or null if the heuristic computes the helpful actions.
+     */
+    private RelaxedPlanningGraph createHelpfulActionsGraph(final Problem problem, final StateHeuristic heuristic) {
+        return heuristic instanceof IncrementalHeuristic ? null : new RelaxedPlanningGraph(problem);
+    }
+
+    /**
+     * Returns the helpful actions of a node. The incremental heuristics restore the relaxed planning graph
+     * they computed for the node. Otherwise, a relaxed planning graph is expanded from the node. Every graph
+     * computed only for the helpful actions is counted as a heuristic evaluation.
+     *
+     * @param node      the node.
+     * @param problem   the problem to solve.
+     * @param heuristic the heuristic used to guide the search.
+     * @param graph     the relaxed planning graph used to compute the helpful actions or null if the heuristic
+     *                  computes them.
+     * @return the indexes of the helpful actions.
+     */
+    private List<Integer> getHelpfulActions(final Node node, final Problem problem, final StateHeuristic heuristic,
+                                            final RelaxedPlanningGraph graph) {
+        if (graph == null) {
+            final IncrementalHeuristic incremental = (IncrementalHeuristic) heuristic;
+            if (!incremental.isCached(node)) {
+                this.heuristicEvaluations++;
+            }
+            return incremental.getHelpfulActions(node, problem.getGoal());
+        }
+        graph.expand(node);
+        graph.extractRelaxedPlan(problem.getGoal());
+        this.heuristicEvaluations++;
+        return graph.getHelpfulActions(node);
+    }
+
+    /**
+     * Returns the actions to apply to generate the successors of a state, i.e., its applicable actions
+     * restricted to a strong stubborn set if the partial-order reduction is enabled.
+     *
+     * @param problem      the problem to solve.
+     * @param state        the state.
+     * @param stubbornSets the strong stubborn sets or null if the partial-order reduction is disabled.
+     * @return the indexes of the actions to apply.
+     */
+    private List<Integer> getSuccessorActions(final Problem problem, final State state,
+                                              final StubbornSets stubbornSets) {
+        final List<Integer> applicable = new ArrayList<>();
+        for (int i = 0; i < problem.getActions().size(); i++) {
+            if (problem.getActions().get(i).isApplicable(state)) {
+                applicable.add(i);
+            }
+        }
+        if (stubbornSets == null || applicable.size() <= 1) {
+            return applicable;
+        }
+        final List<Integer> stubborn = stubbornSets.filter(state, applicable);
+        if (stubborn.size() < applicable.size()) {
+            this.prunedStates++;
+            this.prunedActions += applicable.size() - stubborn.size();
+        }
+        return stubborn;
+    }
+
     /**
      * Extracts a search from a specified node.
      *
@@ -507,6 +1273,199 @@ public class ASP extends AbstractPlanner {
         return plan;
     }
 
+    /**
+     * Search a solution plan for a planning problem using an enforced hill-climbing search strategy. From the
+     * current node, a breadth-first search restricted to the helpful actions looks for a node with a strictly
+     * better heuristic value. If the breadth-first search reaches a dead end, the search falls back to A* for
+     * the remaining time.
+     *
+     * @param problem the problem to solve.
+     * @return a plan solution for the problem or null if there is no solution
+     * @throws ProblemNotSupportedException if the problem to solve is not supported by the planner.
+     */
+    public Plan enforcedHillClimbing(Problem problem) throws ProblemNotSupportedException {
+        // Check if the problem is supported by the planner
+        if (!this.isSupported(problem)) {
+            throw new ProblemNotSupportedException("Problem not supported");
+        }
+
+        // We create the heuristic to guide the search and the relaxed graph to compute the helpful actions
+        final StateHeuristic heuristic = this.createHeuristic(problem);
+        final RelaxedPlanningGraph graph = this.createHelpfulActionsGraph(problem, heuristic);
+        this.enforcedHillClimbingFallbacks = 0;
+
+        // We create the root node of the tree search
+        final State init = new State(problem.getInitialState());
+        Node current = new Node(init, null, -1, 0, heuristic.estimate(init, problem.getGoal()));
+        this.heuristicEvaluations++;
+
+        // We set the timeout in ms allocated to the search
+        final int timeout = this.getTimeout() * 1000;
+        final long startTime = System.currentTimeMillis();
+
+        // We climb until the goal is reached
+        while (!current.satisfy(problem.getGoal())) {
+            final Node better = this.improve(current, problem, heuristic, graph, startTime, timeout);
+            if (better == null) {
+                if (System.currentTimeMillis() - startTime >= timeout) {
+                    return null;
+                }
+                LOGGER.info("* Enforced hill-climbing reached a dead end, falling back to A*\n");
+                this.enforcedHillClimbingFallbacks++;
+                return this.astar(problem, timeout - (int) (System.currentTimeMillis() - startTime));
+            }
+            current = better;
+        }
+        return this.extractPlan(current, problem);
+    }
+
+    /**
+     * Performs a breadth-first search restricted to the helpful actions from a specified node until a node
+     * with a strictly better heuristic value is found.
+     *
+     * @param node      the node to improve.
+     * @param problem   the planning problem.
+     * @param heuristic the heuristic used to evaluate the nodes.
+     * @param graph     the relaxed planning graph used to compute the helpful actions or null if the heuristic
+     *                  computes them.
+     * @param startTime the time in ms when the search started.
+     * @param timeout   the timeout in ms allocated to the search.
+     * @return the first node with a strictly better heuristic value or null if there is no such node.
+     */
+    private Node improve(final Node node, final Problem problem, final StateHeuristic heuristic,
+                         final RelaxedPlanningGraph graph, final long startTime, final int timeout) {
+        final Deque<Node> open = new ArrayDeque<>();
+        final Set<Node> close = new HashSet<>();
+        open.add(node);
+        close.add(node);
+        while (!open.isEmpty() && System.currentTimeMillis() - startTime < timeout) {
+            final Node current = open.poll();
+            this.nodesExpanded++;
+            for (int i : this.getHelpfulActions(current, problem, heuristic, graph)) {
+                final Action a = problem.getActions().get(i);
+                final Node next = new Node(current);
+                for (ConditionalEffect ce : a.getConditionalEffects()) {
+                    if (current.satisfy(ce.getCondition())) {
+                        next.apply(ce.getEffect());
+                    }
+                }
+                if (close.add(next)) {
+                    next.setCost(current.getCost() + 1);
+                    next.setParent(current);
+                    next.setAction(i);
+                    next.setHeuristic(heuristic.estimate(next, problem.getGoal()));
+                    this.heuristicEvaluations++;
+                    if (next.getHeuristic() < node.getHeuristic()) {
+                        return next;
+                    } else if (next.getHeuristic() < Integer.MAX_VALUE) {
+                        open.add(next);
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Search a solution plan for a planning problem using a greedy best-first search strategy with deferred
+     * heuristic evaluation. The children of a node inherit the heuristic value of their parent and are
+     * evaluated only when they are popped. The search alternates between two open lists: one containing all
+     * the successors and one containing only the successors reached by preferred operators, i.e., the
+     * helpful actions of their parent.
+     *
+     * @param problem the problem to solve.
+     * @return a plan solution for the problem or null if there is no solution
+     * @throws ProblemNotSupportedException if the problem to solve is not supported by the planner.
+     */
+    public Plan greedyBestFirst(Problem problem) throws ProblemNotSupportedException {
+        // Check if the problem is supported by the planner
+        if (!this.isSupported(problem)) {
+            throw new ProblemNotSupportedException("Problem not supported");
+        }
+
+        // We create the heuristic to guide the search and the relaxed graph to compute the preferred operators
+        final StateHeuristic heuristic = this.createHeuristic(problem);
+        final RelaxedPlanningGraph graph = this.createHelpfulActionsGraph(problem, heuristic);
+
+        // We create the strong stubborn sets used to prune the successors if required
+        final StubbornSets stubbornSets = this.createStubbornSets(problem);
+
+        // We detect the object symmetries used to prune the symmetric states if required
+        final Symmetries symmetries = this.createSymmetries(problem);
+
+        // We initialize the closed list of states (store the canonical forms of the nodes evaluated)
+        final Set<State> close = new HashSet<>();
+
+        // We initialize the two opened lists ordered by the inherited heuristic value and then by cost
+        final Comparator<Node> comparator = new Comparator<Node>() {
+            public int compare(Node n1, Node n2) {
+                final int cmp = Double.compare(n1.getHeuristic(), n2.getHeuristic());
+                return cmp != 0 ? cmp : Double.compare(n1.getCost(), n2.getCost());
+            }
+        };
+        final PriorityQueue<Node> open = new PriorityQueue<>(100, comparator);
+        final PriorityQueue<Node> preferred = new PriorityQueue<>(100, comparator);
+
+        // We create the root node of the tree search, its heuristic value is computed when popped
+        final State init = new State(problem.getInitialState());
+        open.add(new Node(init, null, -1, 0, 0));
+
+        // We set the timeout in ms allocated to the search
+        final int timeout = this.getTimeout() * 1000;
+        final long startTime = System.currentTimeMillis();
+        boolean usePreferred = false;
+
+        // We start the search
+        while ((!open.isEmpty() || !preferred.isEmpty()) && System.currentTimeMillis() - startTime < timeout) {
+
+            // We pop the first node of the opened lists alternately
+            usePreferred = !usePreferred;
+            final Node current = (usePreferred && !preferred.isEmpty()) || open.isEmpty()
+                ? preferred.poll() : open.poll();
+            if (!close.add(symmetries != null ? symmetries.canonicalize(current) : current)) {
+                continue;
+            }
+
+            // If the goal is satisfied in the current node then extract the search and return it
+            if (current.satisfy(problem.getGoal())) {
+                return this.extractPlan(current, problem);
+            }
+
+            // We evaluate the node and skip it if it is a dead end
+            final double h = heuristic.estimate(current, problem.getGoal());
+            this.heuristicEvaluations++;
+            if (h >= Integer.MAX_VALUE) {
+                continue;
+            }
+            this.nodesExpanded++;
+
+            // We compute the preferred operators of the current node
+            final List<Integer> helpful = this.getHelpfulActions(current, problem, heuristic, graph);
+
+            // We generate the children of the current node, they inherit its heuristic value
+            for (int i : this.getSuccessorActions(problem, current, stubbornSets)) {
+                final Action a = problem.getActions().get(i);
+                final Node next = new Node(current);
+                for (ConditionalEffect ce : a.getConditionalEffects()) {
+                    if (current.satisfy(ce.getCondition())) {
+                        next.apply(ce.getEffect());
+                    }
+                }
+                if (!this.isClosed(next, close, symmetries)) {
+                    next.setCost(current.getCost() + 1);
+                    next.setParent(current);
+                    next.setAction(i);
+                    next.setHeuristic(h);
+                    open.add(next);
+                    if (helpful.contains(i)) {
+                        preferred.add(next);
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
     /**
      * Search a solution plan for a planning problem using a Monte Carlo search strategy.
      *
@@ -520,8 +1479,10 @@ public class ASP extends AbstractPlanner {
             throw new ProblemNotSupportedException("Problem not supported");
         }
 
-        // Random generator for Monte Carlo simulations
-        final Random random = new Random();
+        // Random generator for Monte Carlo simulations: each simulation draws from its own split of the root
+        this.montecarloSeed = this.getSeed() != null ? this.getSeed() : new SplittableRandom().nextLong();
+        final SplittableRandom root = new SplittableRandom(this.montecarloSeed);
+        LOGGER.info("* Monte Carlo seed: " + this.montecarloSeed + "\n");
 
         // We get the initial state from the planning problem
         final State init = new State(problem.getInitialState());
@@ -533,6 +1494,11 @@ public class ASP extends AbstractPlanner {
         // We set the timeout in ms allocated to the search
         final int timeout = this.getTimeout() * 1000;
         final long startTime = System.currentTimeMillis();
+
+        // We replay a single simulation of the seed if requested
+        if (this.getReplay() > 0) {
+            return this.replay(problem, init, root, timeout);
+        }
         
         // Number of simulations to perform
         final int maxSimulations = 100000;
@@ -545,7 +1511,7 @@ public class ASP extends AbstractPlanner {
             simulationCount++;
 
             // Perform a single Monte Carlo rollout
-            Plan candidatePlan = performRollout(problem, init, random, timeout - (int)(System.currentTimeMillis() - startTime));
+            Plan candidatePlan = performRollout(problem, init, root.split(), timeout - (int)(System.currentTimeMillis() - startTime));
 
             // If we found a valid plan, check if it's better than the current best
             if (candidatePlan != null) {
@@ -571,6 +1537,29 @@ public class ASP extends AbstractPlanner {
         return bestPlan;
     }
 
+    /**
+     * Replays the simulation of the Monte Carlo search selected in the configuration of the planner. The random
+     * generator of the simulation <code>i</code> is the <code>i</code>-th split of the root generator, so the
+     * replay finds the same plan as the simulation of the complete search.
+     *
+     * @param problem the planning problem.
+     * @param init    the initial state.
+     * @param root    the root random generator created from the seed.
+     * @param timeout the time allocated to the simulation in milliseconds.
+     * @return the plan found by the simulation or null if the simulation did not reach the goal.
+     */
+    private Plan replay(final Problem problem, final State init, final SplittableRandom root, final int timeout) {
+        SplittableRandom random = root.split();
+        for (int i = 1; i < this.getReplay(); i++) {
+            random = root.split();
+        }
+        final Plan plan = this.performRollout(problem, init, random, timeout);
+        LOGGER.info("* Replayed simulation " + this.getReplay() + " of seed " + this.montecarloSeed + ": "
+            + (plan != null ? "plan with length " + plan.size() : "no plan") + "\n");
+        this.montecarloNodesExplored = 1;
+        return plan;
+    }
+
     /**
      * Performs a single Monte Carlo rollout from the initial state.
      *
@@ -580,7 +1569,7 @@ public class ASP extends AbstractPlanner {
      * @param remainingTime the remaining time in milliseconds.
      * @return a plan if the goal is reached, null otherwise.
      */
-    private Plan performRollout(Problem problem, State init, Random random, int remainingTime) {
+    private Plan performRollout(Problem problem, State init, SplittableRandom random, int remainingTime) {
         final long startTime = System.currentTimeMillis();
         final int maxDepth = 100; // Maximum depth for a single rollout
         
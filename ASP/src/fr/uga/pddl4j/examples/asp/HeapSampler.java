@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2021 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.examples.asp;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+/**
+ * This class samples the heap memory used by the JVM during a search and keeps its peak. The sum of the peak
+ * usages of the heap memory pools is not the peak of the heap: the pools reach their peaks at different times,
+ * and the young generation is full at each collection. The heap usage is therefore sampled on a daemon thread
+ * until the sampler is stopped. The heap is shared by all the threads of the JVM, so that the peak includes
+ * the memory of the concurrent searches.
+ *
+ * @author J-B. Arbaut, C. Tropel
+ * @version 1.0 - 18.10.2026
+ */
+public final class HeapSampler {
+
+    /**
+     * The sampling period in milliseconds.
+     */
+    private static final long PERIOD = 5;
+
+    /**
+     * The memory bean giving the heap usage.
+     */
+    private final MemoryMXBean memory;
+
+    /**
+     * The sampling thread.
+     */
+    private final Thread thread;
+
+    /**
+     * The peak heap usage sampled in bytes.
+     */
+    private volatile long peak;
+
+    /**
+     * Creates and starts a new sampler. A garbage collection is requested first so that the garbage of the
+     * previous computations is not counted.
+     */
+    public HeapSampler() {
+        System.gc();
+        this.memory = ManagementFactory.getMemoryMXBean();
+        this.peak = this.memory.getHeapMemoryUsage().getUsed();
+        this.thread = new Thread(this::sample, "heap-sampler");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Samples the heap usage until the sampling thread is interrupted.
+     */
+    private void sample() {
+        while (!Thread.currentThread().isInterrupted()) {
+            this.peak = Math.max(this.peak, this.memory.getHeapMemoryUsage().getUsed());
+            try {
+                Thread.sleep(HeapSampler.PERIOD);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Stops the sampler and returns the peak heap usage sampled since it was started.
+     *
+     * @return the peak heap usage in bytes.
+     */
+    public long stop() {
+        this.thread.interrupt();
+        try {
+            this.thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return Math.max(this.peak, this.memory.getHeapMemoryUsage().getUsed());
+    }
+
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2021 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.examples.asp;
+
+import fr.uga.pddl4j.heuristics.state.StateHeuristic;
+import fr.uga.pddl4j.problem.Problem;
+import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.problem.operator.Condition;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class implements the FF and h_add heuristics on top of a relaxed planning graph that is updated
+ * incrementally. When the state to evaluate is a node whose parent was already evaluated, the graph starts
+ * from the cached fact costs of the parent and propagates only the changes caused by the facts added and
+ * deleted by the action applied. The fact costs of the last evaluated states are kept in a bounded cache.
+ *
+ * @author J-B. Arbaut, C. Tropel
+ * @version 1.0 - 18.10.2026
+ */
+public final class IncrementalHeuristic implements StateHeuristic {
+
+    /**
+     * The serial version id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The names of the incremental heuristics.
+     */
+    public enum Name {
+        /**
+         * The incremental FF heuristic.
+         */
+        INCREMENTAL_FAST_FORWARD(StateHeuristic.Name.FAST_FORWARD),
+        /**
+         * The incremental h_add heuristic.
+         */
+        INCREMENTAL_SUM(StateHeuristic.Name.SUM);
+
+        /**
+         * The non incremental heuristic computing the same values.
+         */
+        private final StateHeuristic.Name equivalent;
+
+        /**
+         * Creates a new name.
+         *
+         * @param equivalent the non incremental heuristic computing the same values.
+         */
+        Name(final StateHeuristic.Name equivalent) {
+            this.equivalent = equivalent;
+        }
+
+        /**
+         * Returns the non incremental heuristic of the PDDL4J library computing the same kind of values.
+         *
+         * @return the non incremental heuristic computing the same kind of values.
+         */
+        public StateHeuristic.Name getEquivalent() {
+            return this.equivalent;
+        }
+    }
+
+    /**
+     * The maximum number of states whose fact costs are cached.
+     */
+    private static final int CACHE_SIZE = 64;
+
+    /**
+     * The name of the heuristic.
+     */
+    private final Name name;
+
+    /**
+     * The relaxed planning graph.
+     */
+    private final transient RelaxedPlanningGraph graph;
+
+    /**
+     * The fact costs and best supporters of the last evaluated states.
+     */
+    private final transient Map<State, int[][]> cache;
+
+    /**
+     * Creates a new incremental heuristic for a specified problem.
+     *
+     * @param name    the name of the heuristic.
+     * @param problem the problem.
+     */
+    public IncrementalHeuristic(final Name name, final Problem problem) {
+        this.name = name;
+        this.graph = new RelaxedPlanningGraph(problem);
+        this.cache = new LinkedHashMap<State, int[][]>(IncrementalHeuristic.CACHE_SIZE, 0.75f, true) {
+            protected boolean removeEldestEntry(Map.Entry<State, int[][]> eldest) {
+                return this.size() > IncrementalHeuristic.CACHE_SIZE;
+            }
+        };
+    }
+
+    /**
+     * Returns the name of the heuristic.
+     *
+     * @return the name of the heuristic.
+     */
+    public Name getName() {
+        return this.name;
+    }
+
+    /**
+     * Returns the estimated distance to the goal from a specified state. If the state is a node whose parent
+     * is cached, the relaxed planning graph is updated from the graph of the parent. Otherwise, it is expanded
+     * from scratch.
+     *
+     * @param state the state.
+     * @param goal  the goal.
+     * @return the estimated distance to the goal or <code>Integer.MAX_VALUE</code> if the goal is not
+     *     reachable.
+     */
+    @Override
+    public int estimate(final State state, final Condition goal) {
+        final int[][] cached = this.cache.get(state);
+        if (cached != null) {
+            this.graph.restore(cached[0], cached[1]);
+        } else {
+            final Node parent = state instanceof Node ? ((Node) state).getParent() : null;
+            final int[][] base = parent != null ? this.cache.get(parent) : null;
+            if (base != null) {
+                this.graph.restore(base[0], base[1]);
+                this.graph.update(parent, state);
+            } else if (parent != null) {
+                this.graph.expand(parent);
+                this.cache.put(new State(parent), new int[][] {this.graph.copyCosts(), this.graph.copySupporters()});
+                this.graph.update(parent, state);
+            } else {
+                this.graph.expand(state);
+            }
+            this.cache.put(new State(state), new int[][] {this.graph.copyCosts(), this.graph.copySupporters()});
+        }
+        final int value = this.name == Name.INCREMENTAL_SUM
+            ? this.graph.getAddValue(goal)
+            : this.graph.extractRelaxedPlan(goal);
+        return value == RelaxedPlanningGraph.UNREACHABLE ? Integer.MAX_VALUE : value;
+    }
+
+    /**
+     * Returns if the relaxed planning graph of a specified state is cached, i.e., if it can be restored
+     * without being computed again.
+     *
+     * @param state the state.
+     * @return <code>true</code> if the relaxed planning graph of the state is cached.
+     */
+    public boolean isCached(final State state) {
+        return this.cache.containsKey(state);
+    }
+
+    /**
+     * Returns the helpful actions of a specified state, i.e., the actions of the relaxed plan of the state
+     * that are applicable in the state. The relaxed planning graph of the state is restored from the cache
+     * when the state was already estimated, so that the searches using preferred operators do not expand a
+     * second graph.
+     *
+     * @param state the state.
+     * @param goal  the goal.
+     * @return the indexes of the helpful actions.
+     */
+    public List<Integer> getHelpfulActions(final State state, final Condition goal) {
+        this.estimate(state, goal);
+        if (this.name == Name.INCREMENTAL_SUM) {
+            this.graph.extractRelaxedPlan(goal);
+        }
+        return this.graph.getHelpfulActions(state);
+    }
+
+    /**
+     * Returns the estimated distance to the goal from a specified node of the PDDL4J search strategies.
+     *
+     * @param node the node.
+     * @param goal the goal.
+     * @return the estimated distance to the goal or <code>Integer.MAX_VALUE</code> if the goal is not
+     *     reachable.
+     */
+    @Override
+    public double estimate(final fr.uga.pddl4j.planners.statespace.search.Node node, final Condition goal) {
+        return this.estimate((State) node, goal);
+    }
+
+    /**
+     * Returns if the heuristic is admissible. The FF and h_add heuristics are not admissible.
+     *
+     * @return <code>false</code>.
+     */
+    @Override
+    public boolean isAdmissible() {
+        return false;
+    }
+
+}
@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) 2021 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.examples.asp;
+
+import fr.uga.pddl4j.heuristics.state.StateHeuristic;
+import fr.uga.pddl4j.problem.Problem;
+import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.problem.operator.Condition;
+import fr.uga.pddl4j.util.BitVector;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This class implements the landmark-count heuristic. The fact landmarks of the problem and their greedy
+ * necessary orderings are extracted once by back-chaining from the goals: the preconditions shared by all the
+ * first achievers of a landmark are landmarks ordered before it. During the search, each node stores the set
+ * of landmarks accepted on its path, inherited from its parent: a landmark is accepted when it holds and all
+ * its predecessors were accepted before. The heuristic value is the number of landmarks not yet accepted plus
+ * the number of accepted landmarks required again, i.e., false landmarks that are goals or that must hold
+ * before a landmark not yet accepted.
+ *
+ * @author J-B. Arbaut, C. Tropel
+ * @version 1.0 - 18.10.2026
+ */
+public final class LandmarkHeuristic implements StateHeuristic {
+
+    /**
+     * The serial version id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The name of the heuristic.
+     */
+    public static final String NAME = "LANDMARK_COUNT";
+
+    /**
+     * The fact of each landmark.
+     */
+    private final int[] facts;
+
+    /**
+     * The landmarks ordered before each landmark.
+     */
+    private final int[][] predecessors;
+
+    /**
+     * The landmarks ordered after each landmark.
+     */
+    private final int[][] successors;
+
+    /**
+     * Whether each landmark is a goal.
+     */
+    private final boolean[] goals;
+
+    /**
+     * Creates a new landmark-count heuristic for a specified problem and extracts its landmarks.
+     *
+     * @param problem the problem.
+     */
+    public LandmarkHeuristic(final Problem problem) {
+        final RelaxedPlanningGraph graph = new RelaxedPlanningGraph(problem);
+        final BitVector init = problem.getInitialState().getPositiveFluents();
+        final Map<Integer, Integer> landmarks = new HashMap<>();
+        final List<Integer> facts = new ArrayList<>();
+        final List<Set<Integer>> predecessors = new ArrayList<>();
+        final Deque<Integer> open = new ArrayDeque<>();
+        final BitVector goal = problem.getGoal().getPositiveFluents();
+        for (int g = goal.nextSetBit(0); g >= 0; g = goal.nextSetBit(g + 1)) {
+            LandmarkHeuristic.add(g, landmarks, facts, predecessors, open);
+        }
+
+        // We back-chain from the landmarks through the preconditions shared by their first achievers
+        while (!open.isEmpty()) {
+            final int landmark = open.poll();
+            if (init.get(facts.get(landmark))) {
+                continue;
+            }
+            final boolean[] reachable = LandmarkHeuristic.reach(graph, init, facts.get(landmark));
+            Set<Integer> shared = null;
+            for (int op : graph.getProducers(facts.get(landmark))) {
+                if (LandmarkHeuristic.isApplicable(graph.getPreconditions(op), reachable)) {
+                    final Set<Integer> pre = new LinkedHashSet<>();
+                    for (int p : graph.getPreconditions(op)) {
+                        pre.add(p);
+                    }
+                    if (shared == null) {
+                        shared = pre;
+                    } else {
+                        shared.retainAll(pre);
+                    }
+                }
+            }
+            if (shared != null) {
+                for (int p : shared) {
+                    predecessors.get(landmark).add(LandmarkHeuristic.add(p, landmarks, facts, predecessors, open));
+                }
+            }
+        }
+
+        // We build the compact representation of the landmark graph
+        final int size = facts.size();
+        this.facts = facts.stream().mapToInt(Integer::intValue).toArray();
+        this.predecessors = new int[size][];
+        this.goals = new boolean[size];
+        final List<List<Integer>> successors = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            this.predecessors[i] = predecessors.get(i).stream().mapToInt(Integer::intValue).toArray();
+            this.goals[i] = goal.get(this.facts[i]);
+            successors.add(new ArrayList<>());
+        }
+        for (int i = 0; i < size; i++) {
+            for (int p : this.predecessors[i]) {
+                successors.get(p).add(i);
+            }
+        }
+        this.successors = new int[size][];
+        for (int i = 0; i < size; i++) {
+            this.successors[i] = successors.get(i).stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * Returns the number of landmarks extracted.
+     *
+     * @return the number of landmarks extracted.
+     */
+    public int size() {
+        return this.facts.length;
+    }
+
+    /**
+     * Returns the estimated distance to the goal from a specified state. If the state is a node, the landmarks
+     * accepted on its path are computed from those of its parent and stored in the node. Otherwise, the
+     * landmarks holding in the state are considered as accepted.
+     *
+     * @param state the state.
+     * @param goal  the goal.
+     * @return the number of landmarks not accepted plus the number of accepted landmarks required again.
+     */
+    @Override
+    public int estimate(final State state, final Condition goal) {
+        final BitVector accepted;
+        final Node parent = state instanceof Node ? ((Node) state).getParent() : null;
+        if (parent == null) {
+            accepted = this.getHoldingLandmarks(state);
+        } else {
+            final BitVector inherited = parent.getAcceptedLandmarks() != null
+                ? parent.getAcceptedLandmarks()
+                : this.getHoldingLandmarks(parent);
+            accepted = new BitVector(inherited);
+            for (int i = 0; i < this.facts.length; i++) {
+                if (!inherited.get(i) && state.get(this.facts[i])
+                    && LandmarkHeuristic.contains(inherited, this.predecessors[i])) {
+                    accepted.set(i);
+                }
+            }
+        }
+        if (state instanceof Node) {
+            ((Node) state).setAcceptedLandmarks(accepted);
+        }
+        int value = 0;
+        for (int i = 0; i < this.facts.length; i++) {
+            if (!accepted.get(i)) {
+                value++;
+            } else if (!state.get(this.facts[i])
+                && (this.goals[i] || !LandmarkHeuristic.contains(accepted, this.successors[i]))) {
+                value++;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Returns the estimated distance to the goal from a specified node of the PDDL4J search strategies.
+     *
+     * @param node the node.
+     * @param goal the goal.
+     * @return the number of landmarks not accepted plus the number of accepted landmarks required again.
+     */
+    @Override
+    public double estimate(final fr.uga.pddl4j.planners.statespace.search.Node node, final Condition goal) {
+        return this.estimate((State) node, goal);
+    }
+
+    /**
+     * Returns if the heuristic is admissible. The landmark-count heuristic is not admissible.
+     *
+     * @return <code>false</code>.
+     */
+    @Override
+    public boolean isAdmissible() {
+        return false;
+    }
+
+    /**
+     * Returns the landmarks holding in a specified state.
+     *
+     * @param state the state.
+     * @return the landmarks holding in the state.
+     */
+    private BitVector getHoldingLandmarks(final State state) {
+        final BitVector holding = new BitVector();
+        for (int i = 0; i < this.facts.length; i++) {
+            if (state.get(this.facts[i])) {
+                holding.set(i);
+            }
+        }
+        return holding;
+    }
+
+    /**
+     * Adds a fact to the landmarks if it is not already a landmark.
+     *
+     * @param fact         the fact.
+     * @param landmarks    the index of the landmark of each fact.
+     * @param facts        the fact of each landmark.
+     * @param predecessors the predecessors of each landmark.
+     * @param open         the landmarks to back-chain from.
+     * @return the index of the landmark of the fact.
+     */
+    private static int add(final int fact, final Map<Integer, Integer> landmarks, final List<Integer> facts,
+                           final List<Set<Integer>> predecessors, final Deque<Integer> open) {
+        Integer landmark = landmarks.get(fact);
+        if (landmark == null) {
+            landmark = facts.size();
+            landmarks.put(fact, landmark);
+            facts.add(fact);
+            predecessors.add(new LinkedHashSet<>());
+            open.add(landmark);
+        }
+        return landmark;
+    }
+
+    /**
+     * Computes the facts reachable in the relaxed problem from a state without achieving a specified fact.
+     *
+     * @param graph    the relaxed planning graph of the problem.
+     * @param init     the state.
+     * @param excluded the fact not to achieve.
+     * @return the facts reachable without achieving the excluded fact.
+     */
+    private static boolean[] reach(final RelaxedPlanningGraph graph, final BitVector init, final int excluded) {
+        final boolean[] reachable = new boolean[graph.getNumberOfFacts()];
+        final int[] unsatisfied = new int[graph.getNumberOfOperators()];
+        final Deque<Integer> open = new ArrayDeque<>();
+        for (int op = 0; op < unsatisfied.length; op++) {
+            unsatisfied[op] = graph.getPreconditions(op).length;
+            if (unsatisfied[op] == 0) {
+                LandmarkHeuristic.reach(graph.getEffects(op), excluded, reachable, open);
+            }
+        }
+        for (int f = init.nextSetBit(0); f >= 0 && f < reachable.length; f = init.nextSetBit(f + 1)) {
+            if (!reachable[f] && f != excluded) {
+                reachable[f] = true;
+                open.add(f);
+            }
+        }
+        while (!open.isEmpty()) {
+            for (int op : graph.getConsumers(open.poll())) {
+                unsatisfied[op]--;
+                if (unsatisfied[op] == 0) {
+                    LandmarkHeuristic.reach(graph.getEffects(op), excluded, reachable, open);
+                }
+            }
+        }
+        return reachable;
+    }
+
+    /**
+     * Marks as reachable the effects of a unary operator except a specified fact.
+     *
+     * @param effects   the effects of the unary operator.
+     * @param excluded  the fact not to achieve.
+     * @param reachable the reachable facts.
+     * @param open      the facts reached and not yet propagated.
+     */
+    private static void reach(final int[] effects, final int excluded, final boolean[] reachable,
+                              final Deque<Integer> open) {
+        for (int e : effects) {
+            if (!reachable[e] && e != excluded) {
+                reachable[e] = true;
+                open.add(e);
+            }
+        }
+    }
+
+    /**
+     * Returns if all the preconditions of a unary operator are reachable.
+     *
+     * @param preconditions the preconditions of the unary operator.
+     * @param reachable     the reachable facts.
+     * @return <code>true</code> if all the preconditions are reachable, <code>false</code> otherwise.
+     */
+    private static boolean isApplicable(final int[] preconditions, final boolean[] reachable) {
+        for (int p : preconditions) {
+            if (!reachable[p]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns if a set contains all the specified elements.
+     *
+     * @param set      the set.
+     * @param elements the elements.
+     * @return <code>true</code> if the set contains all the elements, <code>false</code> otherwise.
+     */
+    private static boolean contains(final BitVector set, final int[] elements) {
+        for (int e : elements) {
+            if (!set.get(e)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
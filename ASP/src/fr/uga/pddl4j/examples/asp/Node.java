@@ -20,6 +20,7 @@
 package fr.uga.pddl4j.examples.asp;
 
 import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.util.BitVector;
 
 /**
  * This class implements a node of the tree search.
@@ -54,6 +55,11 @@ public final class Node extends State {
      */
     private int depth;
 
+    /**
+     * The landmarks accepted on the path from the root node to this node.
+     */
+    private BitVector acceptedLandmarks;
+
     /**
      * Creates a new node from a specified state.
      *
@@ -192,6 +198,24 @@ public final class Node extends State {
         this.depth = depth;
     }
 
+    /**
+     * Returns the landmarks accepted on the path from the root node to this node.
+     *
+     * @return the landmarks accepted or null if the landmarks of the node were not computed.
+     */
+    public final BitVector getAcceptedLandmarks() {
+        return this.acceptedLandmarks;
+    }
+
+    /**
+     * Sets the landmarks accepted on the path from the root node to this node.
+     *
+     * @param acceptedLandmarks the landmarks accepted to set.
+     */
+    public final void setAcceptedLandmarks(final BitVector acceptedLandmarks) {
+        this.acceptedLandmarks = acceptedLandmarks;
+    }
+
     /**
      * Returns the value of the heuristic function, i.e.,
      * <code>this.node.getCost() + this.node.getHeuristic()</code>.
@@ -0,0 +1,818 @@
+/*
+ * Copyright (c) 2021 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.examples.asp;
+
+import fr.uga.pddl4j.parser.DefaultParsedProblem;
+import fr.uga.pddl4j.parser.ErrorManager;
+import fr.uga.pddl4j.parser.Message;
+import fr.uga.pddl4j.parser.ParsedDomain;
+import fr.uga.pddl4j.parser.ParsedProblem;
+import fr.uga.pddl4j.parser.Parser;
+import fr.uga.pddl4j.plan.Plan;
+import fr.uga.pddl4j.planners.LogLevel;
+import fr.uga.pddl4j.planners.Planner;
+import fr.uga.pddl4j.planners.PlannerConfiguration;
+import fr.uga.pddl4j.planners.Statistics;
+import fr.uga.pddl4j.problem.Problem;
+import fr.uga.pddl4j.problem.operator.Action;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import picocli.CommandLine;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Phaser;
+
+/**
+ * This class implements a long-lived planning service. The service reads planning requests as JSON lines on
+ * the standard input or on a local socket, solves each request with an {@link ASP} planner on its own thread
+ * and writes back one JSON line per request with the plan and the statistics of the search as soon as the
+ * request is solved. The parsed domains are kept in a bounded LRU cache keyed by the SHA-256 hash of their
+ * content, so that a request on a known domain only parses its problem, and the JVM stays warm between
+ * requests.
+ *
+ * <p>A request is a flat JSON object with the following fields: <code>id</code> (echoed in the response),
+ * <code>domain</code> and <code>problem</code> (the PDDL content) or <code>domainFile</code> and
+ * <code>problemFile</code> (the paths of the PDDL files), and the optional planner settings
+ * <code>algorithm</code>, <code>heuristic</code>, <code>weight</code>, <code>timeout</code>,
+ * <code>partialOrderReduction</code>, <code>symmetries</code>, <code>seed</code> and
+ * <code>replay</code>.</p>
+ *
+ * @author J-B. Arbaut, C. Tropel
+ * @version 1.0 - 18.10.2026
+ */
+@CommandLine.Command(name = "PlanningService",
+    version = "PlanningService 1.0",
+    description = "Solves the planning requests received as JSON lines on the standard input or on a local socket.",
+    sortOptions = false,
+    mixinStandardHelpOptions = true,
+    headerHeading = "Usage:%n",
+    synopsisHeading = "%n",
+    descriptionHeading = "%nDescription:%n%n",
+    parameterListHeading = "%nParameters:%n",
+    optionListHeading = "%nOptions:%n")
+public final class PlanningService implements Callable<Integer> {
+
+    /**
+     * The class logger.
+     */
+    private static final Logger LOGGER = LogManager.getLogger(PlanningService.class.getName());
+
+    /**
+     * The default port of the service. The port 0 means that the requests are read on the standard input.
+     */
+    public static final int DEFAULT_PORT = 0;
+
+    /**
+     * The default maximum number of parsed domains kept in the cache.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 16;
+
+    /**
+     * The default algorithm used to solve a request.
+     */
+    public static final ASP.Algorithm DEFAULT_ALGORITHM = ASP.Algorithm.ASTAR;
+
+    /**
+     * The local port on which the requests are received or 0 to read them on the standard input.
+     */
+    private int port;
+
+    /**
+     * The maximum number of parsed domains kept in the cache.
+     */
+    private int cacheSize;
+
+    /**
+     * The log level of the planners.
+     */
+    private LogLevel logLevel;
+
+    /**
+     * The parsed domains indexed by the hash of their content, in least recently used order. A domain is
+     * completed once parsed, so that the concurrent requests on a domain being parsed wait for the same parse.
+     */
+    private Map<String, CompletableFuture<CachedDomain>> cache;
+
+    /**
+     * The executor solving the requests.
+     */
+    private ExecutorService executor;
+
+    /**
+     * A parsed domain kept in the cache with the parser used to check the problems of the domain.
+     */
+    private static final class CachedDomain {
+
+        /**
+         * The parser that parsed the domain.
+         */
+        private final Parser parser;
+
+        /**
+         * The parsed domain.
+         */
+        private final ParsedDomain domain;
+
+        /**
+         * Creates a new cached domain.
+         *
+         * @param parser the parser that parsed the domain.
+         * @param domain the parsed domain.
+         */
+        private CachedDomain(final Parser parser, final ParsedDomain domain) {
+            this.parser = parser;
+            this.domain = domain;
+        }
+    }
+
+    /**
+     * Creates a new planning service with the default configuration.
+     */
+    public PlanningService() {
+        this.setPort(PlanningService.DEFAULT_PORT);
+        this.setCacheSize(PlanningService.DEFAULT_CACHE_SIZE);
+        this.setLogLevel(LogLevel.OFF);
+    }
+
+    /**
+     * Sets the local port on which the requests are received.
+     *
+     * @param port the port or 0 to read the requests on the standard input.
+     */
+    @CommandLine.Option(names = {"-p", "--port"}, defaultValue = "0", paramLabel = "<port>",
+        description = "Set the local port of the service, 0 to read the requests on the standard input "
+            + "(preset 0).")
+    public void setPort(final int port) {
+        if (port < 0) {
+            throw new IllegalArgumentException("Port < 0");
+        }
+        this.port = port;
+    }
+
+    /**
+     * Returns the local port on which the requests are received.
+     *
+     * @return the port or 0 if the requests are read on the standard input.
+     */
+    public final int getPort() {
+        return this.port;
+    }
+
+    /**
+     * Sets the maximum number of parsed domains kept in the cache.
+     *
+     * @param cacheSize the maximum number of parsed domains kept in the cache.
+     */
+    @CommandLine.Option(names = {"-c", "--cache-size"}, defaultValue = "16", paramLabel = "<size>",
+        description = "Set the maximum number of parsed domains kept in the cache (preset 16).")
+    public void setCacheSize(final int cacheSize) {
+        if (cacheSize <= 0) {
+            throw new IllegalArgumentException("Cache size <= 0");
+        }
+        this.cacheSize = cacheSize;
+    }
+
+    /**
+     * Returns the maximum number of parsed domains kept in the cache.
+     *
+     * @return the maximum number of parsed domains kept in the cache.
+     */
+    public final int getCacheSize() {
+        return this.cacheSize;
+    }
+
+    /**
+     * Sets the log level of the planners. The planners log on the standard output, so the default level is
+     * <code>OFF</code> to keep the responses readable.
+     *
+     * @param logLevel the log level of the planners.
+     */
+    @CommandLine.Option(names = {"-l", "--log"}, defaultValue = "OFF", converter = LogLevel.class,
+        paramLabel = "<log>", description = "Set the level of trace of the planners: ALL, DEBUG, INFO, ERROR, "
+            + "FATAL, OFF, TRACE (preset OFF).")
+    public void setLogLevel(final LogLevel logLevel) {
+        this.logLevel = logLevel;
+    }
+
+    /**
+     * Returns the log level of the planners.
+     *
+     * @return the log level of the planners.
+     */
+    public final LogLevel getLogLevel() {
+        return this.logLevel;
+    }
+
+    /**
+     * Runs the service until the standard input is closed or, if a port is set, until the process is stopped.
+     *
+     * @return 0 when the service stops.
+     * @throws IOException if the socket of the service cannot be opened.
+     */
+    @Override
+    public Integer call() throws IOException {
+        final int size = this.getCacheSize();
+        this.cache = new LinkedHashMap<String, CompletableFuture<CachedDomain>>(size, 0.75f, true) {
+            protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<CachedDomain>> eldest) {
+                return this.size() > size;
+            }
+        };
+        this.executor = PlanningService.createExecutor();
+        try {
+            if (this.getPort() == 0) {
+                this.serve(System.in, System.out);
+            } else {
+                try (ServerSocket server = new ServerSocket(this.getPort(), 50, InetAddress.getLoopbackAddress())) {
+                    LOGGER.info("* Planning service listening on port " + server.getLocalPort() + "\n");
+                    while (true) {
+                        final Socket socket = server.accept();
+                        this.executor.submit(() -> {
+                            try (Socket client = socket) {
+                                this.serve(client.getInputStream(), client.getOutputStream());
+                            } catch (IOException e) {
+                                LOGGER.error("* Connection closed: " + e.getMessage() + "\n");
+                            }
+                        });
+                    }
+                }
+            }
+        } finally {
+            this.executor.shutdown();
+        }
+        return 0;
+    }
+
+    /**
+     * Reads the requests of a connection until the end of its input and writes back the responses as soon as
+     * they are solved. The method returns when all the requests of the connection are answered.
+     *
+     * @param in  the input of the connection.
+     * @param out the output of the connection.
+     * @throws IOException if the requests cannot be read.
+     */
+    private void serve(final InputStream in, final OutputStream out) throws IOException {
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        final PrintWriter writer = new PrintWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), true);
+        // We count the pending requests instead of keeping them so that a long-lived connection does not
+        // accumulate the requests already answered
+        final Phaser pending = new Phaser(1);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.isBlank()) {
+                final String request = line;
+                pending.register();
+                this.executor.execute(() -> {
+                    try {
+                        final String response = this.respond(request);
+                        synchronized (writer) {
+                            writer.println(response);
+                        }
+                    } catch (RuntimeException | Error e) {
+                        LOGGER.error("* Request failed: " + e + "\n");
+                    } finally {
+                        pending.arriveAndDeregister();
+                    }
+                });
+            }
+        }
+        try {
+            pending.awaitAdvanceInterruptibly(pending.arrive());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Solves a request and returns the response to write back.
+     *
+     * @param line the JSON line of the request.
+     * @return the JSON line of the response.
+     */
+    private String respond(final String line) {
+        String id = null;
+        try {
+            final Map<String, String> request = PlanningService.parseRequest(line);
+            id = request.get("id");
+            return this.solve(id, request);
+        } catch (Exception e) {
+            final StringBuilder response = new StringBuilder("{");
+            PlanningService.append(response, "id", id);
+            response.append(',');
+            PlanningService.append(response, "status", "ERROR");
+            response.append(',');
+            PlanningService.append(response, "error", e.getMessage() != null ? e.getMessage() : e.toString());
+            return response.append('}').toString();
+        }
+    }
+
+    /**
+     * Solves a request with a new planner configured from the request.
+     *
+     * @param id      the identifier of the request.
+     * @param request the fields of the request.
+     * @return the JSON line of the response.
+     * @throws IOException if the domain or the problem cannot be read or parsed.
+     */
+    private String solve(final String id, final Map<String, String> request) throws IOException {
+        final ASP planner = new ASP(this.getConfiguration(request));
+        if (planner.getAlgorithm() == ASP.Algorithm.COMPARISON) {
+            throw new IllegalArgumentException("Algorithm COMPARISON is not supported by the service");
+        }
+        final Statistics statistics = planner.getStatistics();
+
+        // We parse the problem against the cached domain, parsing the domain only if it is not cached. The time
+        // spent waiting for the parse of another request or for the lock of the domain is not parsing time
+        long begin = System.currentTimeMillis();
+        long timeToWait = 0;
+        final String domainFile = request.get("domainFile");
+        final String domainContent = domainFile != null
+            ? Files.readString(new File(domainFile).toPath())
+            : PlanningService.require(request, "domain");
+        final String key = PlanningService.hash(domainContent);
+        final boolean cached;
+        final CompletableFuture<CachedDomain> entry;
+        synchronized (this.cache) {
+            final CompletableFuture<CachedDomain> existing = this.cache.get(key);
+            cached = existing != null;
+            entry = cached ? existing : new CompletableFuture<>();
+            if (!cached) {
+                this.cache.put(key, entry);
+            }
+        }
+        // We parse the domain outside of the lock of the cache so that the other requests do not wait for it
+        if (!cached) {
+            try {
+                entry.complete(PlanningService.parseDomain(domainFile, domainContent));
+            } catch (IOException | RuntimeException e) {
+                synchronized (this.cache) {
+                    this.cache.remove(key, entry);
+                }
+                entry.completeExceptionally(e);
+                throw e;
+            }
+        }
+        long now = System.currentTimeMillis();
+        final long timeToParseDomain = now - begin;
+        begin = now;
+        final CachedDomain domain = PlanningService.await(entry);
+        now = System.currentTimeMillis();
+        timeToWait += now - begin;
+        begin = now;
+
+        // We parse and instantiate the problem under the lock of the cached domain because the parser and the
+        // instantiation work on the shared parsed domain and are not thread-safe
+        final Problem problem;
+        synchronized (domain) {
+            now = System.currentTimeMillis();
+            timeToWait += now - begin;
+            begin = now;
+            final DefaultParsedProblem parsedProblem = PlanningService.parseProblem(domain,
+                request.get("problemFile"), request.get("problem"));
+            now = System.currentTimeMillis();
+            statistics.setTimeToParse(timeToParseDomain + now - begin);
+            begin = now;
+            problem = planner.instantiate(parsedProblem);
+            statistics.setTimeToEncode(System.currentTimeMillis() - begin);
+        }
+
+        // We solve the problem concurrently with the other requests
+        statistics.setNumberOfActions(problem.getActions().size());
+        statistics.setNumberOfRelevantFluents(problem.getFluents().size());
+        final Plan plan = problem.isSolvable() ? planner.solve(problem) : null;
+
+        final StringBuilder response = new StringBuilder("{");
+        PlanningService.append(response, "id", id);
+        response.append(',');
+        PlanningService.append(response, "status", plan != null ? "SOLVED" : "UNSOLVED");
+        response.append(",\"domainCached\":").append(cached);
+        if (plan != null) {
+            response.append(",\"length\":").append(plan.size());
+            response.append(",\"cost\":").append(plan.cost());
+            response.append(",\"plan\":[");
+            final List<Action> actions = plan.actions();
+            for (int i = 0; i < actions.size(); i++) {
+                if (i > 0) {
+                    response.append(',');
+                }
+                PlanningService.quote(response, "(" + problem.toShortString(actions.get(i)) + ")");
+            }
+            response.append(']');
+        }
+        response.append(",\"timeToWait\":").append(timeToWait);
+        response.append(",\"timeToParse\":").append(statistics.getTimeToParse());
+        response.append(",\"timeToEncode\":").append(statistics.getTimeToEncode());
+        response.append(",\"timeToSearch\":").append(statistics.getTimeToSearch());
+        response.append(",\"actions\":").append(statistics.getNumberOfActions());
+        response.append(",\"fluents\":").append(statistics.getNumberOfRelevantFluents());
+        response.append(",\"nodesExpanded\":").append(planner.getNodesExpanded());
+        response.append(",\"heuristicEvaluations\":").append(planner.getHeuristicEvaluations());
+        if (planner.getAlgorithm() == ASP.Algorithm.MONTE_CARLO) {
+            response.append(",\"seed\":").append(planner.getMontecarloSeed());
+        }
+        return response.append('}').toString();
+    }
+
+    /**
+     * Returns the configuration of the planner solving a request. The settings missing in the request keep
+     * their default value, except the algorithm whose default value is {@link #DEFAULT_ALGORITHM}. The
+     * benchmark result store is disabled.
+     *
+     * @param request the fields of the request.
+     * @return the configuration of the planner.
+     */
+    private PlannerConfiguration getConfiguration(final Map<String, String> request) {
+        final PlannerConfiguration config = ASP.getDefaultConfiguration();
+        config.setProperty(Planner.LOG_LEVEL_SETTING, this.getLogLevel().toString());
+        config.setProperty(ASP.ALGORITHM_SETTING, PlanningService.DEFAULT_ALGORITHM.toString());
+        config.setProperty(ASP.RESULT_STORE_SETTING, "NONE");
+        final String[][] settings = {
+            {"algorithm", ASP.ALGORITHM_SETTING},
+            {"heuristic", ASP.HEURISTIC_SETTING},
+            {"weight", ASP.WEIGHT_HEURISTIC_SETTING},
+            {"timeout", Planner.TIME_OUT_SETTING},
+            {"partialOrderReduction", ASP.PARTIAL_ORDER_REDUCTION_SETTING},
+            {"symmetries", ASP.SYMMETRIES_SETTING},
+            {"seed", ASP.SEED_SETTING},
+            {"replay", ASP.REPLAY_SETTING},
+        };
+        for (String[] setting : settings) {
+            final String value = request.get(setting[0]);
+            if (value != null) {
+                config.setProperty(setting[1], value);
+            }
+        }
+        return config;
+    }
+
+    /**
+     * Waits for a domain parsed by a request and returns it.
+     *
+     * @param entry the entry of the domain in the cache.
+     * @return the parsed domain.
+     * @throws IOException if the domain cannot be parsed.
+     */
+    private static CachedDomain await(final CompletableFuture<CachedDomain> entry) throws IOException {
+        try {
+            return entry.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Parses a domain with a new parser.
+     *
+     * @param file    the path of the domain file or null if the domain is given by its content.
+     * @param content the content of the domain.
+     * @return the parsed domain and its parser.
+     * @throws IOException if the domain cannot be parsed.
+     */
+    private static CachedDomain parseDomain(final String file, final String content) throws IOException {
+        final Parser parser = new Parser();
+        final File domainFile = file != null ? new File(file) : PlanningService.createTempFile("domain", content);
+        try {
+            final ParsedDomain domain = parser.parseDomain(domainFile);
+            PlanningService.checkErrors(parser.getErrorManager(), domain, "domain");
+            return new CachedDomain(parser, domain);
+        } finally {
+            if (file == null) {
+                Files.deleteIfExists(domainFile.toPath());
+            }
+        }
+    }
+
+    /**
+     * Parses a problem with the parser of its cached domain and combines it with the domain. The caller must
+     * hold the lock of the cached domain because the parser is not thread-safe.
+     *
+     * @param domain  the cached domain.
+     * @param file    the path of the problem file or null if the problem is given by its content.
+     * @param content the content of the problem or null if the problem is given by its path.
+     * @return the parsed domain and problem.
+     * @throws IOException if the problem cannot be parsed.
+     */
+    private static DefaultParsedProblem parseProblem(final CachedDomain domain, final String file,
+                                                     final String content) throws IOException {
+        if (file == null && content == null) {
+            throw new IllegalArgumentException("Missing field problem or problemFile");
+        }
+        final File problemFile = file != null ? new File(file) : PlanningService.createTempFile("problem", content);
+        try {
+            domain.parser.getErrorManager().clear();
+            final ParsedProblem problem = domain.parser.parseProblem(problemFile);
+            PlanningService.checkErrors(domain.parser.getErrorManager(), problem, "problem");
+            return new DefaultParsedProblem(domain.domain, problem);
+        } finally {
+            if (file == null) {
+                Files.deleteIfExists(problemFile.toPath());
+            }
+        }
+    }
+
+    /**
+     * Checks that a parser did not report any error.
+     *
+     * @param errors the error manager of the parser.
+     * @param parsed the result of the parser.
+     * @param what   the name of what was parsed.
+     * @throws IOException if the parser reported an error.
+     */
+    private static void checkErrors(final ErrorManager errors, final Object parsed, final String what)
+        throws IOException {
+        for (Message message : errors.getMessages()) {
+            if (message.getType() != Message.Type.PARSER_WARNING) {
+                throw new IOException("Invalid " + what + ": " + message.getContent().trim());
+            }
+        }
+        if (parsed == null) {
+            throw new IOException("Invalid " + what);
+        }
+    }
+
+    /**
+     * Writes a PDDL content in a new temporary file.
+     *
+     * @param prefix  the prefix of the name of the file.
+     * @param content the PDDL content.
+     * @return the temporary file.
+     * @throws IOException if the file cannot be written.
+     */
+    private static File createTempFile(final String prefix, final String content) throws IOException {
+        final File file = File.createTempFile(prefix, ".pddl");
+        Files.writeString(file.toPath(), content);
+        return file;
+    }
+
+    /**
+     * Returns the SHA-256 hash of a content in hexadecimal.
+     *
+     * @param content the content.
+     * @return the hash of the content.
+     */
+    private static String hash(final String content) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(content.getBytes(StandardCharsets.UTF_8));
+            final StringBuilder hash = new StringBuilder();
+            for (byte b : digest) {
+                hash.append(String.format("%02x", b));
+            }
+            return hash.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the value of a required field of a request.
+     *
+     * @param request the fields of the request.
+     * @param field   the name of the field.
+     * @return the value of the field.
+     */
+    private static String require(final Map<String, String> request, final String field) {
+        final String value = request.get(field);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing field " + field + " or " + field + "File");
+        }
+        return value;
+    }
+
+    /**
+     * Parses a request, i.e., a flat JSON object whose values are strings, numbers, booleans or null. The
+     * values are returned as strings and the null values are ignored.
+     *
+     * @param line the JSON line of the request.
+     * @return the fields of the request.
+     */
+    static Map<String, String> parseRequest(final String line) {
+        final Map<String, String> fields = new LinkedHashMap<>();
+        final int[] index = {PlanningService.skip(line, 0)};
+        PlanningService.expect(line, index, '{');
+        if (line.startsWith("}", PlanningService.skip(line, index[0]))) {
+            return fields;
+        }
+        char next;
+        do {
+            index[0] = PlanningService.skip(line, index[0]);
+            final String key = PlanningService.readString(line, index);
+            PlanningService.expect(line, index, ':');
+            index[0] = PlanningService.skip(line, index[0]);
+            final String value;
+            if (index[0] < line.length() && line.charAt(index[0]) == '"') {
+                value = PlanningService.readString(line, index);
+            } else {
+                final int begin = index[0];
+                while (index[0] < line.length() && ",} \t".indexOf(line.charAt(index[0])) == -1) {
+                    index[0]++;
+                }
+                final String literal = line.substring(begin, index[0]);
+                if (literal.isEmpty() || literal.charAt(0) == '{' || literal.charAt(0) == '[') {
+                    throw new IllegalArgumentException("Unsupported value of field " + key);
+                }
+                value = literal.equals("null") ? null : literal;
+            }
+            if (value != null) {
+                fields.put(key, value);
+            }
+            index[0] = PlanningService.skip(line, index[0]);
+            if (index[0] >= line.length()) {
+                throw new IllegalArgumentException("Unterminated JSON object");
+            }
+            next = line.charAt(index[0]++);
+        } while (next == ',');
+        if (next != '}') {
+            throw new IllegalArgumentException("Expected ',' or '}' at " + (index[0] - 1));
+        }
+        return fields;
+    }
+
+    /**
+     * Reads a JSON string starting at the current position.
+     *
+     * @param line  the JSON line.
+     * @param index the current position, updated after the string.
+     * @return the unescaped string.
+     */
+    private static String readString(final String line, final int[] index) {
+        PlanningService.expect(line, index, '"');
+        final StringBuilder str = new StringBuilder();
+        while (index[0] < line.length()) {
+            final char c = line.charAt(index[0]++);
+            if (c == '"') {
+                return str.toString();
+            } else if (c == '\\' && index[0] < line.length()) {
+                final char e = line.charAt(index[0]++);
+                switch (e) {
+                    case 'n':
+                        str.append('\n');
+                        break;
+                    case 't':
+                        str.append('\t');
+                        break;
+                    case 'r':
+                        str.append('\r');
+                        break;
+                    case 'b':
+                        str.append('\b');
+                        break;
+                    case 'f':
+                        str.append('\f');
+                        break;
+                    case 'u':
+                        str.append((char) Integer.parseInt(line.substring(index[0], index[0] + 4), 16));
+                        index[0] += 4;
+                        break;
+                    default:
+                        str.append(e);
+                }
+            } else {
+                str.append(c);
+            }
+        }
+        throw new IllegalArgumentException("Unterminated JSON string");
+    }
+
+    /**
+     * Checks that the next non blank character is the expected one and moves after it.
+     *
+     * @param line     the JSON line.
+     * @param index    the current position, updated after the character.
+     * @param expected the expected character.
+     */
+    private static void expect(final String line, final int[] index, final char expected) {
+        index[0] = PlanningService.skip(line, index[0]);
+        if (index[0] >= line.length() || line.charAt(index[0]) != expected) {
+            throw new IllegalArgumentException("Expected '" + expected + "' at " + index[0]);
+        }
+        index[0]++;
+    }
+
+    /**
+     * Returns the position of the first non blank character from a specified position.
+     *
+     * @param line  the JSON line.
+     * @param index the position.
+     * @return the position of the first non blank character.
+     */
+    private static int skip(final String line, final int index) {
+        int i = index;
+        while (i < line.length() && Character.isWhitespace(line.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Appends a JSON field whose value is a string.
+     *
+     * @param json  the JSON object being written.
+     * @param key   the key of the field.
+     * @param value the value of the field or null.
+     */
+    private static void append(final StringBuilder json, final String key, final String value) {
+        PlanningService.quote(json, key);
+        json.append(':');
+        if (value == null) {
+            json.append("null");
+        } else {
+            PlanningService.quote(json, value);
+        }
+    }
+
+    /**
+     * Appends a string as a quoted and escaped JSON string.
+     *
+     * @param json the JSON object being written.
+     * @param str  the string.
+     */
+    private static void quote(final StringBuilder json, final String str) {
+        json.append('"');
+        for (int i = 0; i < str.length(); i++) {
+            final char c = str.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c == '\n') {
+                json.append("\\n");
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+
+    /**
+     * Returns the executor solving the requests. Each request runs on its own virtual thread when the JVM
+     * supports them and on a thread of a cached pool otherwise.
+     *
+     * @return the executor solving the requests.
+     */
+    private static ExecutorService createExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    /**
+     * The main method of the planning service.
+     *
+     * @param args the arguments of the command line.
+     */
+    public static void main(String[] args) {
+        try {
+            final PlanningService service = new PlanningService();
+            CommandLine cmd = new CommandLine(service);
+            cmd.execute(args);
+        } catch (IllegalArgumentException e) {
+            LOGGER.fatal(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,545 @@
+/*
+ * Copyright (c) 2021 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.examples.asp;
+
+import fr.uga.pddl4j.problem.Problem;
+import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.problem.operator.Action;
+import fr.uga.pddl4j.problem.operator.Condition;
+import fr.uga.pddl4j.problem.operator.ConditionalEffect;
+import fr.uga.pddl4j.util.BitVector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * This class implements a relaxed planning graph based on the additive heuristic (h_add). The graph
+ * ignores the delete effects and the negative preconditions of the actions. Each conditional effect of an
+ * action is encoded as a unary operator whose precondition is the union of the precondition of the action
+ * and the condition of the effect. The graph is used to extract FF relaxed plans and the helpful actions of a
+ * state, i.e., the actions of the relaxed plan that are applicable in the state. The graph can either be
+ * expanded from scratch or updated incrementally from the graph of a previous state.
+ *
+ * @author J-B. Arbaut, C. Tropel
+ * @version 1.0 - 18.10.2026
+ */
+public final class RelaxedPlanningGraph {
+
+    /**
+     * The cost of an unreachable fact.
+     */
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    /**
+     * The planning problem.
+     */
+    private final Problem problem;
+
+    /**
+     * The index of the action of each unary operator.
+     */
+    private final int[] operatorActions;
+
+    /**
+     * The positive preconditions of each unary operator.
+     */
+    private final int[][] operatorPreconditions;
+
+    /**
+     * The positive effects of each unary operator.
+     */
+    private final int[][] operatorEffects;
+
+    /**
+     * The unary operators having a specified fact as precondition.
+     */
+    private final int[][] consumers;
+
+    /**
+     * The unary operators having a specified fact as effect.
+     */
+    private final int[][] producers;
+
+    /**
+     * The h_add cost of each fact.
+     */
+    private final int[] costs;
+
+    /**
+     * The best supporter of each fact or -1 if the fact holds in the state or is unreachable.
+     */
+    private final int[] supporters;
+
+    /**
+     * The h_add cost of each unary operator.
+     */
+    private final int[] operatorCosts;
+
+    /**
+     * The number of preconditions not yet reached for each unary operator.
+     */
+    private final int[] unsatisfied;
+
+    /**
+     * The unary operators of the last relaxed plan extracted.
+     */
+    private final List<Integer> relaxedPlan;
+
+    /**
+     * Creates a new relaxed planning graph for a specified problem.
+     *
+     * @param problem the problem.
+     */
+    public RelaxedPlanningGraph(final Problem problem) {
+        this.problem = problem;
+        final List<Integer> actions = new ArrayList<>();
+        final List<int[]> preconditions = new ArrayList<>();
+        final List<int[]> effects = new ArrayList<>();
+        for (int i = 0; i < problem.getActions().size(); i++) {
+            final Action a = problem.getActions().get(i);
+            for (ConditionalEffect ce : a.getConditionalEffects()) {
+                if (ce.getEffect().getPositiveFluents().isEmpty()) {
+                    continue;
+                }
+                final BitVector pre = new BitVector(a.getPrecondition().getPositiveFluents());
+                pre.or(ce.getCondition().getPositiveFluents());
+                actions.add(i);
+                preconditions.add(pre.stream().toArray());
+                effects.add(ce.getEffect().getPositiveFluents().stream().toArray());
+            }
+        }
+        final int nbOperators = actions.size();
+        final int nbFacts = problem.getFluents().size();
+        this.operatorActions = actions.stream().mapToInt(Integer::intValue).toArray();
+        this.operatorPreconditions = preconditions.toArray(new int[nbOperators][]);
+        this.operatorEffects = effects.toArray(new int[nbOperators][]);
+        this.consumers = RelaxedPlanningGraph.index(this.operatorPreconditions, nbFacts);
+        this.producers = RelaxedPlanningGraph.index(this.operatorEffects, nbFacts);
+        this.costs = new int[nbFacts];
+        this.supporters = new int[nbFacts];
+        this.operatorCosts = new int[nbOperators];
+        this.unsatisfied = new int[nbOperators];
+        this.relaxedPlan = new ArrayList<>();
+    }
+
+    /**
+     * Returns the problem of the graph.
+     *
+     * @return the problem of the graph.
+     */
+    public Problem getProblem() {
+        return this.problem;
+    }
+
+    /**
+     * Returns the number of facts of the graph.
+     *
+     * @return the number of facts of the graph.
+     */
+    public int getNumberOfFacts() {
+        return this.costs.length;
+    }
+
+    /**
+     * Returns the number of unary operators of the graph.
+     *
+     * @return the number of unary operators of the graph.
+     */
+    public int getNumberOfOperators() {
+        return this.operatorActions.length;
+    }
+
+    /**
+     * Returns the positive preconditions of a unary operator.
+     *
+     * @param op the unary operator.
+     * @return the positive preconditions of the unary operator.
+     */
+    public int[] getPreconditions(final int op) {
+        return this.operatorPreconditions[op];
+    }
+
+    /**
+     * Returns the positive effects of a unary operator.
+     *
+     * @param op the unary operator.
+     * @return the positive effects of the unary operator.
+     */
+    public int[] getEffects(final int op) {
+        return this.operatorEffects[op];
+    }
+
+    /**
+     * Returns the unary operators having a specified fact as effect.
+     *
+     * @param fact the fact.
+     * @return the unary operators having the fact as effect.
+     */
+    public int[] getProducers(final int fact) {
+        return this.producers[fact];
+    }
+
+    /**
+     * Returns the unary operators having a specified fact as precondition.
+     *
+     * @param fact the fact.
+     * @return the unary operators having the fact as precondition.
+     */
+    public int[] getConsumers(final int fact) {
+        return this.consumers[fact];
+    }
+
+    /**
+     * Returns the h_add cost of a fact computed by the last expansion or update of the graph.
+     *
+     * @param fact the fact.
+     * @return the cost of the fact or <code>UNREACHABLE</code> if the fact is not reachable.
+     */
+    public int getCost(final int fact) {
+        return this.costs[fact];
+    }
+
+    /**
+     * Expands the relaxed planning graph from a specified state, i.e., computes the h_add cost and the best
+     * supporter of every fact.
+     *
+     * @param state the state.
+     */
+    public void expand(final State state) {
+        Arrays.fill(this.costs, RelaxedPlanningGraph.UNREACHABLE);
+        Arrays.fill(this.supporters, -1);
+        final PriorityQueue<Long> queue = new PriorityQueue<>();
+        for (int f = state.nextSetBit(0); f >= 0 && f < this.costs.length; f = state.nextSetBit(f + 1)) {
+            this.costs[f] = 0;
+            queue.add(RelaxedPlanningGraph.entry(0, f));
+        }
+        for (int op = 0; op < this.operatorActions.length; op++) {
+            this.operatorCosts[op] = 1;
+            this.unsatisfied[op] = this.operatorPreconditions[op].length;
+            if (this.unsatisfied[op] == 0) {
+                this.relax(op, queue);
+            }
+        }
+        while (!queue.isEmpty()) {
+            final long entry = queue.poll();
+            final int cost = (int) (entry >>> 32);
+            final int fact = (int) entry;
+            if (cost > this.costs[fact]) {
+                continue;
+            }
+            for (int op : this.consumers[fact]) {
+                this.operatorCosts[op] = RelaxedPlanningGraph.add(this.operatorCosts[op], cost);
+                this.unsatisfied[op]--;
+                if (this.unsatisfied[op] == 0) {
+                    this.relax(op, queue);
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates incrementally the relaxed planning graph expanded from a state <code>before</code> so that it
+     * becomes the graph of the state <code>after</code>. The facts added to the state are propagated as in
+     * <code>expand()</code>. The facts deleted from the state and all the facts whose best supporters depend
+     * on them are reset and derived again from their producers. The other facts keep their costs.
+     *
+     * @param before the state from which the graph was expanded.
+     * @param after  the new state of the graph.
+     */
+    public void update(final State before, final State after) {
+        final PriorityQueue<Long> queue = new PriorityQueue<>();
+
+        // We reset the deleted facts and the facts supported by them
+        final BitVector deleted = new BitVector(before);
+        deleted.andNot(after);
+        final List<Integer> affected = new ArrayList<>();
+        for (int f = deleted.nextSetBit(0); f >= 0 && f < this.costs.length; f = deleted.nextSetBit(f + 1)) {
+            this.costs[f] = RelaxedPlanningGraph.UNREACHABLE;
+            affected.add(f);
+        }
+        for (int i = 0; i < affected.size(); i++) {
+            for (int op : this.consumers[affected.get(i)]) {
+                for (int e : this.operatorEffects[op]) {
+                    if (this.supporters[e] == op) {
+                        this.costs[e] = RelaxedPlanningGraph.UNREACHABLE;
+                        this.supporters[e] = -1;
+                        affected.add(e);
+                    }
+                }
+            }
+        }
+
+        // We propagate the added facts
+        final BitVector added = new BitVector(after);
+        added.andNot(before);
+        for (int f = added.nextSetBit(0); f >= 0 && f < this.costs.length; f = added.nextSetBit(f + 1)) {
+            this.costs[f] = 0;
+            this.supporters[f] = -1;
+            queue.add(RelaxedPlanningGraph.entry(0, f));
+        }
+
+        // We derive again the reset facts from their producers
+        for (int f : affected) {
+            for (int op : this.producers[f]) {
+                final int cost = this.getOperatorCost(op);
+                if (this.isBetterSupporter(op, cost, f)) {
+                    this.costs[f] = cost;
+                    this.supporters[f] = op;
+                }
+            }
+            if (this.costs[f] != RelaxedPlanningGraph.UNREACHABLE) {
+                queue.add(RelaxedPlanningGraph.entry(this.costs[f], f));
+            }
+        }
+
+        // We propagate the decreases of costs until a fixpoint is reached
+        while (!queue.isEmpty()) {
+            final long entry = queue.poll();
+            final int cost = (int) (entry >>> 32);
+            final int fact = (int) entry;
+            if (cost > this.costs[fact]) {
+                continue;
+            }
+            for (int op : this.consumers[fact]) {
+                final int opCost = this.getOperatorCost(op);
+                if (opCost != RelaxedPlanningGraph.UNREACHABLE) {
+                    for (int e : this.operatorEffects[op]) {
+                        if (opCost < this.costs[e]) {
+                            this.costs[e] = opCost;
+                            this.supporters[e] = op;
+                            queue.add(RelaxedPlanningGraph.entry(opCost, e));
+                        } else if (this.isBetterSupporter(op, opCost, e)) {
+                            this.supporters[e] = op;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of the costs of the facts of the graph.
+     *
+     * @return a copy of the costs of the facts of the graph.
+     */
+    public int[] copyCosts() {
+        return this.costs.clone();
+    }
+
+    /**
+     * Returns a copy of the best supporters of the facts of the graph.
+     *
+     * @return a copy of the best supporters of the facts of the graph.
+     */
+    public int[] copySupporters() {
+        return this.supporters.clone();
+    }
+
+    /**
+     * Restores the graph from costs and best supporters previously copied.
+     *
+     * @param costs      the costs of the facts.
+     * @param supporters the best supporters of the facts.
+     */
+    public void restore(final int[] costs, final int[] supporters) {
+        System.arraycopy(costs, 0, this.costs, 0, this.costs.length);
+        System.arraycopy(supporters, 0, this.supporters, 0, this.supporters.length);
+    }
+
+    /**
+     * Returns the h_add value of a specified goal, i.e., the sum of the costs of its facts. The graph must be
+     * expanded before.
+     *
+     * @param goal the goal.
+     * @return the h_add value of the goal or <code>UNREACHABLE</code> if the goal is not reachable.
+     */
+    public int getAddValue(final Condition goal) {
+        final BitVector positiveGoal = goal.getPositiveFluents();
+        int value = 0;
+        for (int g = positiveGoal.nextSetBit(0); g >= 0; g = positiveGoal.nextSetBit(g + 1)) {
+            value = RelaxedPlanningGraph.add(value, this.costs[g]);
+        }
+        return value;
+    }
+
+    /**
+     * Extracts a relaxed plan from the graph for a specified goal and returns its number of actions, i.e.,
+     * the FF heuristic value. The graph must be expanded before.
+     *
+     * @param goal the goal.
+     * @return the number of actions of the relaxed plan or <code>UNREACHABLE</code> if the goal is not
+     *     reachable.
+     */
+    public int extractRelaxedPlan(final Condition goal) {
+        this.relaxedPlan.clear();
+        final BitVector positiveGoal = goal.getPositiveFluents();
+        final List<Integer> open = new ArrayList<>();
+        for (int g = positiveGoal.nextSetBit(0); g >= 0; g = positiveGoal.nextSetBit(g + 1)) {
+            if (this.costs[g] == RelaxedPlanningGraph.UNREACHABLE) {
+                return RelaxedPlanningGraph.UNREACHABLE;
+            }
+            open.add(g);
+        }
+        final boolean[] marked = new boolean[this.costs.length];
+        final boolean[] selected = new boolean[this.operatorActions.length];
+        final boolean[] actions = new boolean[this.problem.getActions().size()];
+        int value = 0;
+        while (!open.isEmpty()) {
+            final int fact = open.remove(open.size() - 1);
+            if (marked[fact]) {
+                continue;
+            }
+            marked[fact] = true;
+            final int op = this.supporters[fact];
+            if (op == -1 || selected[op]) {
+                continue;
+            }
+            selected[op] = true;
+            this.relaxedPlan.add(op);
+            if (!actions[this.operatorActions[op]]) {
+                actions[this.operatorActions[op]] = true;
+                value++;
+            }
+            for (int p : this.operatorPreconditions[op]) {
+                open.add(p);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Returns the helpful actions of a specified state, i.e., the actions of the last relaxed plan extracted
+     * that are applicable in the state.
+     *
+     * @param state the state from which the relaxed plan was extracted.
+     * @return the indexes of the helpful actions.
+     */
+    public List<Integer> getHelpfulActions(final State state) {
+        final List<Integer> helpful = new ArrayList<>();
+        for (int op : this.relaxedPlan) {
+            final int a = this.operatorActions[op];
+            if (!helpful.contains(a) && this.problem.getActions().get(a).isApplicable(state)) {
+                helpful.add(a);
+            }
+        }
+        return helpful;
+    }
+
+    /**
+     * Updates the costs of the effects of an unary operator whose preconditions are all reached.
+     *
+     * @param op    the unary operator.
+     * @param queue the priority queue of facts.
+     */
+    private void relax(final int op, final PriorityQueue<Long> queue) {
+        final int cost = this.operatorCosts[op];
+        for (int e : this.operatorEffects[op]) {
+            if (cost < this.costs[e]) {
+                this.costs[e] = cost;
+                this.supporters[e] = op;
+                queue.add(RelaxedPlanningGraph.entry(cost, e));
+            } else if (this.isBetterSupporter(op, cost, e)) {
+                this.supporters[e] = op;
+            }
+        }
+    }
+
+    /**
+     * Returns if an unary operator with a specified cost is a better supporter of a fact than its current best
+     * supporter. The ties are broken by the index of the operators so that the best supporters do not depend
+     * on whether the graph was expanded or updated.
+     *
+     * @param op   the unary operator.
+     * @param cost the cost of the unary operator.
+     * @param fact the fact.
+     * @return <code>true</code> if the operator is a better supporter of the fact, <code>false</code> otherwise.
+     */
+    private boolean isBetterSupporter(final int op, final int cost, final int fact) {
+        return cost < this.costs[fact]
+            || cost == this.costs[fact] && cost != RelaxedPlanningGraph.UNREACHABLE
+            && this.supporters[fact] != -1 && op < this.supporters[fact];
+    }
+
+    /**
+     * Returns the current cost of an unary operator, i.e., one plus the sum of the costs of its preconditions.
+     *
+     * @param op the unary operator.
+     * @return the cost of the operator or <code>UNREACHABLE</code> if a precondition is not reachable.
+     */
+    private int getOperatorCost(final int op) {
+        int cost = 1;
+        for (int p : this.operatorPreconditions[op]) {
+            cost = RelaxedPlanningGraph.add(cost, this.costs[p]);
+        }
+        return cost;
+    }
+
+    /**
+     * Builds the index of the unary operators containing each fact in a specified list of facts.
+     *
+     * @param facts   the list of facts of each unary operator.
+     * @param nbFacts the number of facts.
+     * @return the unary operators indexed by fact.
+     */
+    private static int[][] index(final int[][] facts, final int nbFacts) {
+        final int[] size = new int[nbFacts];
+        for (int[] list : facts) {
+            for (int f : list) {
+                size[f]++;
+            }
+        }
+        final int[][] index = new int[nbFacts][];
+        for (int f = 0; f < nbFacts; f++) {
+            index[f] = new int[size[f]];
+            size[f] = 0;
+        }
+        for (int op = 0; op < facts.length; op++) {
+            for (int f : facts[op]) {
+                index[f][size[f]++] = op;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Encodes a fact and its cost as an entry of the priority queue ordered by cost.
+     *
+     * @param cost the cost of the fact.
+     * @param fact the fact.
+     * @return the encoded entry.
+     */
+    private static long entry(final int cost, final int fact) {
+        return ((long) cost << 32) | fact;
+    }
+
+    /**
+     * Adds two costs without overflow.
+     *
+     * @param c1 the first cost.
+     * @param c2 the second cost.
+     * @return the sum of the costs bounded by <code>UNREACHABLE</code>.
+     */
+    private static int add(final int c1, final int c2) {
+        return (int) Math.min((long) c1 + c2, RelaxedPlanningGraph.UNREACHABLE);
+    }
+
+}
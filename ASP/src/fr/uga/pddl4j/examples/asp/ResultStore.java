@@ -0,0 +1,803 @@
+/*
+ * Copyright (c) 2021 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.examples.asp;
+
+import fr.uga.pddl4j.planners.Planner;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import picocli.CommandLine;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * This class implements an append-only columnar store of benchmark results and the comparison of two
+ * revisions of the planner. Each column of the store is a file of the store directory holding one value per
+ * line, and each run of the planner appends one row, i.e., one line to every column. A row is keyed by the
+ * problem, the algorithm, the configuration of the planner and the git revision, and holds the metrics of the
+ * run. The rows are never modified, so several runs on the same revision give samples of the metrics.
+ *
+ * <p>The comparison groups the rows of a baseline revision and of a candidate revision by problem,
+ * algorithm and configuration. For each group, a metric regresses if its mean increases by more than a
+ * minimum relative change and if a one-sided Welch's t-test rejects at a given significance level that the
+ * candidate mean is lower or equal to the baseline mean. Improvements are reported the same way. All the
+ * metrics are better when lower, and a lower success rate is always a regression.</p>
+ *
+ * @author J-B. Arbaut, C. Tropel
+ * @version 1.0 - 18.10.2026
+ */
+@CommandLine.Command(name = "ResultStore",
+    version = "ResultStore 1.0",
+    description = "Compares the benchmark results of a candidate revision to a baseline revision.",
+    sortOptions = false,
+    mixinStandardHelpOptions = true,
+    headerHeading = "Usage:%n",
+    synopsisHeading = "%n",
+    descriptionHeading = "%nDescription:%n%n",
+    parameterListHeading = "%nParameters:%n",
+    optionListHeading = "%nOptions:%n")
+public final class ResultStore implements Callable<Integer> {
+
+    /**
+     * The class logger.
+     */
+    private static final Logger LOGGER = LogManager.getLogger(ResultStore.class.getName());
+
+    /**
+     * The column of the problem, i.e., the directory of the problem file and its name.
+     */
+    public static final String PROBLEM = "problem";
+
+    /**
+     * The column of the search algorithm.
+     */
+    public static final String ALGORITHM = "algorithm";
+
+    /**
+     * The column of the configuration of the planner.
+     */
+    public static final String CONFIGURATION = "configuration";
+
+    /**
+     * The column of the git revision of the planner.
+     */
+    public static final String REVISION = "revision";
+
+    /**
+     * The column of the date of the run.
+     */
+    public static final String TIMESTAMP = "timestamp";
+
+    /**
+     * The column of the success of the run: 1 if a plan was found, 0 otherwise.
+     */
+    public static final String SUCCESS = "success";
+
+    /**
+     * The column of the search time in milliseconds.
+     */
+    public static final String TIME = "time_ms";
+
+    /**
+     * The column of the length of the plan found.
+     */
+    public static final String PLAN_LENGTH = "plan_length";
+
+    /**
+     * The column of the number of nodes expanded or of simulations performed.
+     */
+    public static final String NODES = "nodes";
+
+    /**
+     * The column of the peak heap memory used during the search in bytes.
+     */
+    public static final String PEAK_MEMORY = "peak_memory";
+
+    /**
+     * The column of the number of heuristic evaluations, empty if the algorithm does not report it.
+     */
+    public static final String HEURISTIC_CALLS = "heuristic_calls";
+
+    /**
+     * The columns of the store.
+     */
+    public static final List<String> COLUMNS = Collections.unmodifiableList(Arrays.asList(PROBLEM, ALGORITHM,
+        CONFIGURATION, REVISION, TIMESTAMP, SUCCESS, TIME, PLAN_LENGTH, NODES, PEAK_MEMORY, HEURISTIC_CALLS));
+
+    /**
+     * The metrics compared between two revisions.
+     */
+    public static final List<String> METRICS = Collections.unmodifiableList(Arrays.asList(TIME, PLAN_LENGTH,
+        NODES, PEAK_MEMORY, HEURISTIC_CALLS));
+
+    /**
+     * The deterministic metrics, i.e., the metrics that do not vary between two runs of a deterministic
+     * search. The other metrics are measured and noisy. The deterministic metrics of a random search or of a
+     * search stopped by its timeout are noisy as well.
+     */
+    public static final List<String> DETERMINISTIC_METRICS = Collections.unmodifiableList(Arrays.asList(
+        PLAN_LENGTH, NODES, HEURISTIC_CALLS));
+
+    /**
+     * The extension of the column files.
+     */
+    private static final String EXTENSION = ".col";
+
+    /**
+     * The name of the file recording the lengths of the column files after the last complete row.
+     */
+    private static final String LENGTHS = ".lengths";
+
+    /**
+     * The directory of the store.
+     */
+    private File directory;
+
+    /**
+     * The baseline revision of the comparison.
+     */
+    private String baseline;
+
+    /**
+     * The candidate revision of the comparison or null for the current revision.
+     */
+    private String candidate;
+
+    /**
+     * The significance level of the comparison.
+     */
+    private double alpha;
+
+    /**
+     * The minimum relative increase of a metric to report a regression.
+     */
+    private double minChange;
+
+    /**
+     * Creates a new store in the default directory <code>benchmarks</code>.
+     */
+    public ResultStore() {
+        this(new File("benchmarks"));
+    }
+
+    /**
+     * Creates a new store in a specified directory. The directory is created at the first append.
+     *
+     * @param directory the directory of the store.
+     */
+    public ResultStore(final File directory) {
+        this.directory = directory;
+        this.alpha = 0.05;
+        this.minChange = 0.05;
+    }
+
+    /**
+     * Sets the directory of the store.
+     *
+     * @param directory the directory of the store.
+     */
+    @CommandLine.Option(names = {"-d", "--store"}, defaultValue = "benchmarks", paramLabel = "<dir>",
+        description = "Set the directory of the result store (preset: benchmarks)")
+    public void setDirectory(final File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the directory of the store.
+     *
+     * @return the directory of the store.
+     */
+    public File getDirectory() {
+        return this.directory;
+    }
+
+    /**
+     * Sets the baseline revision of the comparison.
+     *
+     * @param baseline the baseline revision.
+     */
+    @CommandLine.Option(names = {"-b", "--baseline"}, required = true, paramLabel = "<revision>",
+        description = "Set the baseline revision")
+    public void setBaseline(final String baseline) {
+        this.baseline = baseline;
+    }
+
+    /**
+     * Sets the candidate revision of the comparison.
+     *
+     * @param candidate the candidate revision or null for the current revision.
+     */
+    @CommandLine.Option(names = {"-c", "--candidate"}, paramLabel = "<revision>",
+        description = "Set the candidate revision (preset: the current revision)")
+    public void setCandidate(final String candidate) {
+        this.candidate = candidate;
+    }
+
+    /**
+     * Sets the significance level of the comparison.
+     *
+     * @param alpha the significance level.
+     */
+    @CommandLine.Option(names = {"-a", "--alpha"}, defaultValue = "0.05", paramLabel = "<alpha>",
+        description = "Set the significance level of the t-test (preset: 0.05)")
+    public void setAlpha(final double alpha) {
+        if (alpha <= 0.0 || alpha >= 1.0) {
+            throw new IllegalArgumentException("Alpha not in ]0, 1[");
+        }
+        this.alpha = alpha;
+    }
+
+    /**
+     * Sets the minimum relative increase of a metric to report a regression.
+     *
+     * @param minChange the minimum relative increase.
+     */
+    @CommandLine.Option(names = {"-m", "--min-change"}, defaultValue = "0.05", paramLabel = "<ratio>",
+        description = "Set the minimum relative increase of a metric to report a regression (preset: 0.05)")
+    public void setMinChange(final double minChange) {
+        if (minChange < 0.0) {
+            throw new IllegalArgumentException("Minimum change < 0");
+        }
+        this.minChange = minChange;
+    }
+
+    /**
+     * Appends a row to the store. The missing columns of the row are left empty. The store is locked during
+     * the append so that concurrent runs do not interleave their rows. The lengths of the column files after
+     * the last complete row are recorded once the row is written, so that the values of a row torn by an
+     * interrupted append are dropped before the next append and ignored by the reads.
+     *
+     * @param row the values of the row indexed by column.
+     * @throws IOException if the row cannot be written.
+     */
+    public void append(final Map<String, String> row) throws IOException {
+        Files.createDirectories(this.directory.toPath());
+        try (FileChannel channel = FileChannel.open(new File(this.directory, ".lock").toPath(),
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            // We lock the store until the channel is closed
+            channel.lock();
+            final Map<String, Long> lengths = this.readLengths();
+            if (lengths != null) {
+                this.truncate(lengths);
+            } else {
+                this.truncate();
+            }
+            for (String column : ResultStore.COLUMNS) {
+                final String value = row.getOrDefault(column, "");
+                Files.writeString(this.getColumnFile(column),
+                    value.replace('\n', ' ').replace('\r', ' ') + "\n", StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            this.writeLengths();
+        }
+    }
+
+    /**
+     * Returns the path of the file of a column.
+     *
+     * @param column the column.
+     * @return the path of the file of the column.
+     */
+    private Path getColumnFile(final String column) {
+        return new File(this.directory, column + ResultStore.EXTENSION).toPath();
+    }
+
+    /**
+     * Returns the lengths in bytes of the column files after the last complete row.
+     *
+     * @return the lengths of the column files indexed by column or null if they were never recorded.
+     * @throws IOException if the lengths cannot be read.
+     */
+    private Map<String, Long> readLengths() throws IOException {
+        final Path file = new File(this.directory, ResultStore.LENGTHS).toPath();
+        if (!Files.exists(file)) {
+            return null;
+        }
+        final Map<String, Long> lengths = new HashMap<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            final int separator = line.indexOf('=');
+            if (separator > 0) {
+                lengths.put(line.substring(0, separator), Long.parseLong(line.substring(separator + 1)));
+            }
+        }
+        return lengths;
+    }
+
+    /**
+     * Records the current lengths of the column files. The record is replaced atomically so that a read never
+     * sees a partial record. The caller must hold the lock of the store.
+     *
+     * @throws IOException if the lengths cannot be written.
+     */
+    private void writeLengths() throws IOException {
+        final StringBuilder record = new StringBuilder();
+        for (String column : ResultStore.COLUMNS) {
+            final Path file = this.getColumnFile(column);
+            record.append(column).append('=').append(Files.exists(file) ? Files.size(file) : 0L).append('\n');
+        }
+        final Path tmp = new File(this.directory, ResultStore.LENGTHS + ".tmp").toPath();
+        Files.writeString(tmp, record.toString(), StandardCharsets.UTF_8);
+        Files.move(tmp, new File(this.directory, ResultStore.LENGTHS).toPath(),
+            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Truncates every column file to its recorded length, i.e., drops the values of a row that was not
+     * written to all the columns. The caller must hold the lock of the store.
+     *
+     * @param lengths the recorded lengths of the column files indexed by column.
+     * @throws IOException if a column file cannot be truncated.
+     */
+    private void truncate(final Map<String, Long> lengths) throws IOException {
+        for (String column : ResultStore.COLUMNS) {
+            final Path file = this.getColumnFile(column);
+            final long length = lengths.getOrDefault(column, 0L);
+            if (Files.exists(file) && Files.size(file) > length) {
+                LOGGER.warn("* Dropping a torn row of column " + column + "\n");
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    channel.truncate(length);
+                }
+            }
+        }
+    }
+
+    /**
+     * Truncates every column file to the number of complete lines of the shortest column, i.e., drops the
+     * values of a row that was not written to all the columns. This scan of the whole store is only needed
+     * when the lengths of the column files were never recorded. The caller must hold the lock of the store.
+     *
+     * @throws IOException if a column file cannot be read or truncated.
+     */
+    private void truncate() throws IOException {
+        final Map<String, byte[]> contents = new HashMap<>();
+        int size = Integer.MAX_VALUE;
+        for (String column : ResultStore.COLUMNS) {
+            final Path file = this.getColumnFile(column);
+            final byte[] content = Files.exists(file) ? Files.readAllBytes(file) : new byte[0];
+            contents.put(column, content);
+            int lines = 0;
+            for (byte b : content) {
+                if (b == '\n') {
+                    lines++;
+                }
+            }
+            size = Math.min(size, lines);
+        }
+        final Map<String, Long> lengths = new HashMap<>();
+        for (String column : ResultStore.COLUMNS) {
+            final byte[] content = contents.get(column);
+            int offset = 0;
+            for (int lines = 0; lines < size; offset++) {
+                if (content[offset] == '\n') {
+                    lines++;
+                }
+            }
+            lengths.put(column, (long) offset);
+        }
+        this.truncate(lengths);
+    }
+
+    /**
+     * Reads all the rows of the store. A row that was not written to all the columns, e.g., because the
+     * planner was stopped during an append, is ignored.
+     *
+     * @return the rows of the store indexed by column.
+     * @throws IOException if the store cannot be read.
+     */
+    public List<Map<String, String>> read() throws IOException {
+        final Map<String, Long> lengths = this.readLengths();
+        final Map<String, List<String>> columns = new HashMap<>();
+        int size = Integer.MAX_VALUE;
+        for (String column : ResultStore.COLUMNS) {
+            final Path file = this.getColumnFile(column);
+            final byte[] content = Files.exists(file) ? Files.readAllBytes(file) : new byte[0];
+            // We read only the complete rows recorded, the others are being appended or torn
+            final int length = lengths != null
+                ? (int) Math.min(content.length, lengths.getOrDefault(column, 0L))
+                : content.length;
+            final List<String> values = new ArrayList<>();
+            int begin = 0;
+            for (int i = 0; i < length; i++) {
+                if (content[i] == '\n') {
+                    values.add(new String(content, begin, i - begin, StandardCharsets.UTF_8));
+                    begin = i + 1;
+                }
+            }
+            columns.put(column, values);
+            size = Math.min(size, values.size());
+        }
+        final List<Map<String, String>> rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final Map<String, String> row = new HashMap<>();
+            for (String column : ResultStore.COLUMNS) {
+                row.put(column, columns.get(column).get(i));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * Returns the git revision of the working directory, suffixed with <code>-dirty</code> if the working
+     * tree has uncommitted changes to tracked files. The compiled classes and the CSV files written by the
+     * comparisons of the planner are tracked but rewritten by every build and every comparison, so that they
+     * are not considered as changes: otherwise, every run on a built tree would be keyed by a dirty revision
+     * that no baseline matches.
+     *
+     * @return the git revision or <code>unknown</code> if it cannot be determined.
+     */
+    public static String getRevision() {
+        final String revision = ResultStore.git("describe", "--always");
+        final String changes = ResultStore.git("status", "--porcelain", "--untracked-files=no", "--", ":(top)",
+            ":(top,exclude,glob)**/" + ASP.CSV_FILE, ":(top,exclude,glob)**/*.class");
+        if (revision == null || changes == null) {
+            return "unknown";
+        }
+        return changes.isEmpty() ? revision : revision + "-dirty";
+    }
+
+    /**
+     * Runs a git command in the working directory and returns the first line of its output.
+     *
+     * @param args the arguments of the git command.
+     * @return the first line of the output, an empty string if there is no output, or null if the command
+     *     failed.
+     */
+    private static String git(final String... args) {
+        final List<String> command = new ArrayList<>();
+        command.add("git");
+        command.addAll(Arrays.asList(args));
+        try {
+            final Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            String first = null;
+            try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    first = first == null ? line.trim() : first;
+                }
+            }
+            return process.waitFor() == 0 ? (first != null ? first : "") : null;
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /**
+     * Compares the candidate revision to the baseline revision and logs the report of the comparison.
+     *
+     * @return 1 if a regression was found, 0 otherwise.
+     * @throws IOException if the store cannot be read.
+     */
+    @Override
+    public Integer call() throws IOException {
+        final String candidate = this.candidate != null ? this.candidate : ResultStore.getRevision();
+        if (candidate.equals(this.baseline)) {
+            throw new IllegalArgumentException("The candidate and the baseline revisions are the same");
+        }
+
+        // We group the samples of the two revisions by problem, algorithm and configuration
+        final Map<List<String>, List<Map<String, String>>> baselineRuns = new LinkedHashMap<>();
+        final Map<List<String>, List<Map<String, String>>> candidateRuns = new LinkedHashMap<>();
+        for (Map<String, String> row : this.read()) {
+            final List<String> key = Arrays.asList(row.get(PROBLEM), row.get(ALGORITHM), row.get(CONFIGURATION));
+            if (row.get(REVISION).equals(this.baseline)) {
+                baselineRuns.computeIfAbsent(key, k -> new ArrayList<>()).add(row);
+            } else if (row.get(REVISION).equals(candidate)) {
+                candidateRuns.computeIfAbsent(key, k -> new ArrayList<>()).add(row);
+            }
+        }
+
+        LOGGER.info("* Comparing revision " + candidate + " to baseline " + this.baseline + "\n");
+        LOGGER.info(String.format("%-24s | %-24s | %-15s | %14s | %14s | %8s | %8s | %s\n", "Problem", "Algorithm",
+            "Metric", "Baseline (n)", "Candidate (n)", "Change", "p-value", "Verdict"));
+        int regressions = 0;
+        int compared = 0;
+        for (Map.Entry<List<String>, List<Map<String, String>>> e : baselineRuns.entrySet()) {
+            final List<Map<String, String>> runs = candidateRuns.get(e.getKey());
+            if (runs == null) {
+                continue;
+            }
+            compared++;
+            final String problem = e.getKey().get(0);
+            final String algorithm = e.getKey().get(1);
+
+            // A lower success rate is a regression whatever the metrics of the successful runs
+            final double[] baseSuccess = ResultStore.values(e.getValue(), SUCCESS, false);
+            final double[] candSuccess = ResultStore.values(runs, SUCCESS, false);
+            if (ResultStore.mean(candSuccess) < ResultStore.mean(baseSuccess)) {
+                regressions++;
+                LOGGER.info(String.format("%-24s | %-24s | %-15s | %14s | %14s | %8s | %8s | %s\n", problem,
+                    algorithm, SUCCESS, ResultStore.format(baseSuccess), ResultStore.format(candSuccess), "", "",
+                    "REGRESSION"));
+            }
+            for (String metric : ResultStore.METRICS) {
+                final double[] base = ResultStore.values(e.getValue(), metric, true);
+                final double[] cand = ResultStore.values(runs, metric, true);
+                if (base.length == 0 || cand.length == 0) {
+                    continue;
+                }
+                final double baseMean = ResultStore.mean(base);
+                final double candMean = ResultStore.mean(cand);
+                final double change = baseMean != 0.0
+                    ? (candMean - baseMean) / baseMean
+                    : (candMean > 0.0 ? Double.POSITIVE_INFINITY : 0.0);
+                // We test the direction of the change: an increase for a regression, a decrease for an improvement
+                final boolean deterministic = ResultStore.DETERMINISTIC_METRICS.contains(metric)
+                    && ResultStore.isDeterministic(e.getValue()) && ResultStore.isDeterministic(runs);
+                final double p = change > 0.0
+                    ? ResultStore.welchTest(base, cand, deterministic)
+                    : ResultStore.welchTest(cand, base, deterministic);
+                final String verdict;
+                if (Double.isNaN(p)) {
+                    verdict = "TOO FEW RUNS";
+                } else if (p < this.alpha && change > this.minChange) {
+                    verdict = "REGRESSION";
+                    regressions++;
+                } else if (p < this.alpha && change < -this.minChange) {
+                    verdict = "IMPROVEMENT";
+                } else {
+                    verdict = "";
+                }
+                LOGGER.info(String.format("%-24s | %-24s | %-15s | %14s | %14s | %+7.1f%% | %8.4f | %s\n", problem,
+                    algorithm, metric, ResultStore.format(base), ResultStore.format(cand), 100.0 * change, p,
+                    verdict));
+            }
+        }
+        LOGGER.info("* " + compared + " configurations compared, " + regressions + " regressions\n");
+        return regressions > 0 ? 1 : 0;
+    }
+
+    /**
+     * Returns if the successful runs of a set of rows are deterministic, i.e., if their deterministic metrics
+     * do not vary between two runs. A Monte Carlo search is deterministic only if its seed is fixed, and a
+     * search is never deterministic if it reached its timeout because its progress then depends on its speed.
+     *
+     * @param rows the rows.
+     * @return <code>true</code> if the successful runs are deterministic.
+     */
+    private static boolean isDeterministic(final List<Map<String, String>> rows) {
+        for (Map<String, String> row : rows) {
+            if (!"1".equals(row.get(SUCCESS))) {
+                continue;
+            }
+            final Map<String, String> settings = new HashMap<>();
+            for (String setting : row.get(CONFIGURATION).split(";")) {
+                final int separator = setting.indexOf('=');
+                if (separator > 0) {
+                    settings.put(setting.substring(0, separator), setting.substring(separator + 1));
+                }
+            }
+            if (ASP.Algorithm.MONTE_CARLO.toString().equals(row.get(ALGORITHM))
+                && !settings.containsKey(ASP.SEED_SETTING)) {
+                return false;
+            }
+            final String timeout = settings.get(Planner.TIME_OUT_SETTING);
+            if (timeout != null && !row.get(TIME).isEmpty()
+                && Double.parseDouble(row.get(TIME)) >= Double.parseDouble(timeout) * 1000.0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the values of a column for a set of rows.
+     *
+     * @param rows           the rows.
+     * @param column         the column.
+     * @param successfulOnly <code>true</code> to keep only the rows of the runs that found a plan.
+     * @return the values of the column, without the empty values.
+     */
+    private static double[] values(final List<Map<String, String>> rows, final String column,
+                                   final boolean successfulOnly) {
+        return rows.stream()
+            .filter(r -> !successfulOnly || "1".equals(r.get(SUCCESS)))
+            .map(r -> r.get(column))
+            .filter(v -> v != null && !v.isEmpty())
+            .mapToDouble(Double::parseDouble)
+            .toArray();
+    }
+
+    /**
+     * Formats the mean and the size of a sample.
+     *
+     * @param sample the sample.
+     * @return the formatted mean and size of the sample.
+     */
+    private static String format(final double[] sample) {
+        return String.format("%.4g (%d)", ResultStore.mean(sample), sample.length);
+    }
+
+    /**
+     * Returns the mean of a sample.
+     *
+     * @param sample the sample.
+     * @return the mean of the sample or 0 if the sample is empty.
+     */
+    private static double mean(final double[] sample) {
+        return sample.length == 0 ? 0.0 : Arrays.stream(sample).sum() / sample.length;
+    }
+
+    /**
+     * Returns the unbiased variance of a sample.
+     *
+     * @param sample the sample of at least two values.
+     * @return the variance of the sample.
+     */
+    private static double variance(final double[] sample) {
+        final double mean = ResultStore.mean(sample);
+        double sum = 0.0;
+        for (double v : sample) {
+            sum += (v - mean) * (v - mean);
+        }
+        return sum / (sample.length - 1);
+    }
+
+    /**
+     * Returns the p-value of the one-sided Welch's t-test of the hypothesis that the mean of the candidate
+     * sample is lower or equal to the mean of the baseline sample, i.e., that the candidate does not
+     * increase the metric. If the metric is deterministic and both samples are constant, the p-value is 0 if
+     * the candidate mean is greater and 1 otherwise. A measured metric needs at least two values in each
+     * sample because a single run says nothing about its noise.
+     *
+     * @param base          the baseline sample.
+     * @param cand          the candidate sample.
+     * @param deterministic <code>true</code> if the metric is deterministic.
+     * @return the p-value or NaN if the samples are too small to be compared.
+     */
+    static double welchTest(final double[] base, final double[] cand, final boolean deterministic) {
+        final double baseVar = base.length > 1 ? ResultStore.variance(base) : 0.0;
+        final double candVar = cand.length > 1 ? ResultStore.variance(cand) : 0.0;
+        final double diff = ResultStore.mean(cand) - ResultStore.mean(base);
+        if (deterministic && baseVar == 0.0 && candVar == 0.0 && (base.length > 1 || cand.length > 1)) {
+            return diff > 0.0 ? 0.0 : 1.0;
+        }
+        if (base.length < 2 || cand.length < 2) {
+            return Double.NaN;
+        }
+        final double b = baseVar / base.length;
+        final double c = candVar / cand.length;
+        // We compare the means directly when the repeated measures of both samples show no noise at all
+        if (b + c == 0.0) {
+            return diff > 0.0 ? 0.0 : 1.0;
+        }
+        final double t = diff / Math.sqrt(b + c);
+        final double df = (b + c) * (b + c) / (b * b / (base.length - 1) + c * c / (cand.length - 1));
+        final double tail = 0.5 * ResultStore.regularizedBeta(df / (df + t * t), df / 2.0, 0.5);
+        return t > 0.0 ? tail : 1.0 - tail;
+    }
+
+    /**
+     * Returns the regularized incomplete beta function <code>I_x(a, b)</code>.
+     *
+     * @param x the upper bound of the integral.
+     * @param a the first parameter.
+     * @param b the second parameter.
+     * @return the value of the regularized incomplete beta function.
+     */
+    private static double regularizedBeta(final double x, final double a, final double b) {
+        if (x <= 0.0) {
+            return 0.0;
+        } else if (x >= 1.0) {
+            return 1.0;
+        }
+        final double front = Math.exp(ResultStore.logGamma(a + b) - ResultStore.logGamma(a)
+            - ResultStore.logGamma(b) + a * Math.log(x) + b * Math.log(1.0 - x));
+        // The continued fraction converges quickly only on one side of the mean of the distribution
+        if (x < (a + 1.0) / (a + b + 2.0)) {
+            return front * ResultStore.betaFraction(x, a, b) / a;
+        }
+        return 1.0 - front * ResultStore.betaFraction(1.0 - x, b, a) / b;
+    }
+
+    /**
+     * Evaluates the continued fraction of the incomplete beta function with the modified Lentz's method.
+     *
+     * @param x the upper bound of the integral.
+     * @param a the first parameter.
+     * @param b the second parameter.
+     * @return the value of the continued fraction.
+     */
+    private static double betaFraction(final double x, final double a, final double b) {
+        final double tiny = 1e-300;
+        double c = 1.0;
+        double d = 1.0 / ResultStore.nonZero(1.0 - (a + b) * x / (a + 1.0), tiny);
+        double h = d;
+        for (int m = 1; m <= 300; m++) {
+            final double even = m * (b - m) * x / ((a + 2 * m - 1) * (a + 2 * m));
+            d = 1.0 / ResultStore.nonZero(1.0 + even * d, tiny);
+            c = ResultStore.nonZero(1.0 + even / c, tiny);
+            h *= d * c;
+            final double odd = -(a + m) * (a + b + m) * x / ((a + 2 * m) * (a + 2 * m + 1));
+            d = 1.0 / ResultStore.nonZero(1.0 + odd * d, tiny);
+            c = ResultStore.nonZero(1.0 + odd / c, tiny);
+            final double delta = d * c;
+            h *= delta;
+            if (Math.abs(delta - 1.0) < 1e-14) {
+                break;
+            }
+        }
+        return h;
+    }
+
+    /**
+     * Replaces a value too close to zero by a tiny value.
+     *
+     * @param value the value.
+     * @param tiny  the tiny value.
+     * @return the value or the tiny value.
+     */
+    private static double nonZero(final double value, final double tiny) {
+        return Math.abs(value) < tiny ? tiny : value;
+    }
+
+    /**
+     * Returns the logarithm of the gamma function with the Lanczos approximation.
+     *
+     * @param x a positive value.
+     * @return the logarithm of the gamma function.
+     */
+    private static double logGamma(final double x) {
+        final double[] coefficients = {76.18009172947146, -86.50532032941677, 24.01409824083091,
+            -1.231739572450155, 0.1208650973866179e-2, -0.5395239384953e-5};
+        double y = x;
+        double series = 1.000000000190015;
+        for (double coefficient : coefficients) {
+            series += coefficient / ++y;
+        }
+        final double tmp = x + 5.5;
+        return -tmp + (x + 0.5) * Math.log(tmp) + Math.log(2.5066282746310005 * series / x);
+    }
+
+    /**
+     * The main method of the comparison of two revisions. The exit status is 1 if a regression was found.
+     *
+     * @param args the arguments of the command line.
+     */
+    public static void main(String[] args) {
+        try {
+            final ResultStore store = new ResultStore();
+            CommandLine cmd = new CommandLine(store);
+            System.exit(cmd.execute(args));
+        } catch (IllegalArgumentException e) {
+            LOGGER.fatal(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2021 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.examples.asp;
+
+import fr.uga.pddl4j.problem.Problem;
+import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.problem.operator.Action;
+import fr.uga.pddl4j.problem.operator.Condition;
+import fr.uga.pddl4j.problem.operator.ConditionalEffect;
+import fr.uga.pddl4j.problem.operator.Effect;
+import fr.uga.pddl4j.util.BitVector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class implements the partial-order reduction based on strong stubborn sets. A strong stubborn set of
+ * a state contains the achievers of an unsatisfied goal, the actions interfering with its applicable actions
+ * and the achievers of an unsatisfied precondition of its inapplicable actions. Expanding only the applicable
+ * actions of a strong stubborn set preserves completeness and optimality. The achievers and the interference
+ * relation between actions are precomputed once for the problem. A literal <code>f</code> is encoded by
+ * <code>2f</code> and its negation by <code>2f + 1</code>.
+ *
+ * <p>The reduction is disabled if an action of the problem has a conditional effect with a non-empty
+ * condition.</p>
+ *
+ * @author J-B. Arbaut, C. Tropel
+ * @version 1.0 - 18.10.2026
+ */
+public final class StubbornSets {
+
+    /**
+     * The planning problem.
+     */
+    private final Problem problem;
+
+    /**
+     * Whether the reduction can be applied to the problem.
+     */
+    private final boolean enabled;
+
+    /**
+     * The actions achieving each literal.
+     */
+    private final int[][] achievers;
+
+    /**
+     * The actions interfering with each action.
+     */
+    private final int[][] interference;
+
+    /**
+     * Creates the strong stubborn sets of a specified problem.
+     *
+     * @param problem the problem.
+     */
+    public StubbornSets(final Problem problem) {
+        this.problem = problem;
+        final List<Action> actions = problem.getActions();
+        boolean conditional = false;
+        for (Action a : actions) {
+            for (ConditionalEffect ce : a.getConditionalEffects()) {
+                conditional |= !ce.getCondition().isEmpty();
+            }
+        }
+        this.enabled = !conditional;
+        final int nbFacts = problem.getFluents().size();
+        final Effect[] effects = new Effect[actions.size()];
+        for (int i = 0; i < actions.size(); i++) {
+            final Effect effect = actions.get(i).getUnconditionalEffect();
+            effects[i] = effect != null ? effect : new Effect();
+        }
+
+        // We index the actions by the literals of their preconditions and effects
+        final List<List<Integer>> adders = StubbornSets.emptyLists(nbFacts);
+        final List<List<Integer>> deleters = StubbornSets.emptyLists(nbFacts);
+        final List<List<Integer>> positiveUsers = StubbornSets.emptyLists(nbFacts);
+        final List<List<Integer>> negativeUsers = StubbornSets.emptyLists(nbFacts);
+        for (int i = 0; i < actions.size(); i++) {
+            final Condition pre = actions.get(i).getPrecondition();
+            StubbornSets.index(pre.getPositiveFluents(), i, positiveUsers);
+            StubbornSets.index(pre.getNegativeFluents(), i, negativeUsers);
+            StubbornSets.index(effects[i].getPositiveFluents(), i, adders);
+            StubbornSets.index(effects[i].getNegativeFluents(), i, deleters);
+        }
+        this.achievers = new int[2 * nbFacts][];
+        for (int f = 0; f < nbFacts; f++) {
+            this.achievers[2 * f] = StubbornSets.toArray(adders.get(f));
+            this.achievers[2 * f + 1] = StubbornSets.toArray(deleters.get(f));
+        }
+
+        // Two actions interfere if one disables the other or if their effects conflict
+        this.interference = new int[actions.size()][];
+        final boolean[] marked = new boolean[actions.size()];
+        final List<Integer> interfering = new ArrayList<>();
+        for (int i = 0; i < actions.size(); i++) {
+            final Condition pre = actions.get(i).getPrecondition();
+            StubbornSets.collect(pre.getPositiveFluents(), deleters, i, marked, interfering);
+            StubbornSets.collect(pre.getNegativeFluents(), adders, i, marked, interfering);
+            StubbornSets.collect(effects[i].getPositiveFluents(), negativeUsers, i, marked, interfering);
+            StubbornSets.collect(effects[i].getPositiveFluents(), deleters, i, marked, interfering);
+            StubbornSets.collect(effects[i].getNegativeFluents(), positiveUsers, i, marked, interfering);
+            StubbornSets.collect(effects[i].getNegativeFluents(), adders, i, marked, interfering);
+            this.interference[i] = StubbornSets.toArray(interfering);
+            for (int a : interfering) {
+                marked[a] = false;
+            }
+            interfering.clear();
+        }
+    }
+
+    /**
+     * Returns if the reduction can be applied to the problem.
+     *
+     * @return <code>true</code> if the reduction can be applied to the problem, <code>false</code> otherwise.
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Returns the applicable actions of a state that belong to a strong stubborn set of the state.
+     *
+     * @param state      the state.
+     * @param applicable the indexes of the actions applicable in the state.
+     * @return the indexes of the applicable actions of the strong stubborn set.
+     */
+    public List<Integer> filter(final State state, final List<Integer> applicable) {
+        if (!this.enabled) {
+            return applicable;
+        }
+        final int goal = this.getUnsatisfiedLiteral(this.problem.getGoal(), state);
+        if (goal == -1) {
+            return applicable;
+        }
+        final boolean[] isApplicable = new boolean[this.interference.length];
+        for (int a : applicable) {
+            isApplicable[a] = true;
+        }
+
+        // We compute the fixpoint of the strong stubborn set from the achievers of the unsatisfied goal
+        final boolean[] stubborn = new boolean[this.interference.length];
+        final List<Integer> open = new ArrayList<>();
+        StubbornSets.add(this.achievers[goal], stubborn, open);
+        while (!open.isEmpty()) {
+            final int a = open.remove(open.size() - 1);
+            if (isApplicable[a]) {
+                StubbornSets.add(this.interference[a], stubborn, open);
+            } else {
+                final Condition pre = this.problem.getActions().get(a).getPrecondition();
+                final int literal = this.getUnsatisfiedLiteral(pre, state);
+                if (literal != -1) {
+                    StubbornSets.add(this.achievers[literal], stubborn, open);
+                }
+            }
+        }
+        final List<Integer> filtered = new ArrayList<>();
+        for (int a : applicable) {
+            if (stubborn[a]) {
+                filtered.add(a);
+            }
+        }
+        return filtered;
+    }
+
+    /**
+     * Returns the literal of a condition that is not satisfied in a state and has the fewest achievers. This
+     * choice keeps the stubborn sets small.
+     *
+     * @param condition the condition.
+     * @param state     the state.
+     * @return the unsatisfied literal or -1 if the condition is satisfied.
+     */
+    private int getUnsatisfiedLiteral(final Condition condition, final State state) {
+        int literal = -1;
+        final BitVector positive = condition.getPositiveFluents();
+        for (int f = positive.nextSetBit(0); f >= 0; f = positive.nextSetBit(f + 1)) {
+            if (!state.get(f) && (literal == -1 || this.achievers[2 * f].length < this.achievers[literal].length)) {
+                literal = 2 * f;
+            }
+        }
+        final BitVector negative = condition.getNegativeFluents();
+        for (int f = negative.nextSetBit(0); f >= 0; f = negative.nextSetBit(f + 1)) {
+            if (state.get(f) && (literal == -1 || this.achievers[2 * f + 1].length < this.achievers[literal].length)) {
+                literal = 2 * f + 1;
+            }
+        }
+        return literal;
+    }
+
+    /**
+     * Adds actions to the stubborn set if they are not already in the set.
+     *
+     * @param actions  the actions to add.
+     * @param stubborn the stubborn set.
+     * @param open     the actions added and not yet processed.
+     */
+    private static void add(final int[] actions, final boolean[] stubborn, final List<Integer> open) {
+        for (int a : actions) {
+            if (!stubborn[a]) {
+                stubborn[a] = true;
+                open.add(a);
+            }
+        }
+    }
+
+    /**
+     * Collects the actions indexed by a set of facts, except a specified action, without duplicates.
+     *
+     * @param facts     the facts.
+     * @param index     the actions indexed by fact.
+     * @param action    the action to exclude.
+     * @param marked    the actions already collected.
+     * @param collected the actions collected.
+     */
+    private static void collect(final BitVector facts, final List<List<Integer>> index, final int action,
+                                final boolean[] marked, final List<Integer> collected) {
+        for (int f = facts.nextSetBit(0); f >= 0; f = facts.nextSetBit(f + 1)) {
+            for (int a : index.get(f)) {
+                if (a != action && !marked[a]) {
+                    marked[a] = true;
+                    collected.add(a);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds an action to the lists of the facts of a specified set.
+     *
+     * @param facts  the facts.
+     * @param action the action.
+     * @param index  the actions indexed by fact.
+     */
+    private static void index(final BitVector facts, final int action, final List<List<Integer>> index) {
+        for (int f = facts.nextSetBit(0); f >= 0 && f < index.size(); f = facts.nextSetBit(f + 1)) {
+            index.get(f).add(action);
+        }
+    }
+
+    /**
+     * Creates a list of empty lists.
+     *
+     * @param size the number of lists.
+     * @return the list of empty lists.
+     */
+    private static List<List<Integer>> emptyLists(final int size) {
+        final List<List<Integer>> lists = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            lists.add(new ArrayList<>());
+        }
+        return lists;
+    }
+
+    /**
+     * Converts a list of integers into an array.
+     *
+     * @param list the list.
+     * @return the array.
+     */
+    private static int[] toArray(final List<Integer> list) {
+        return list.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+}
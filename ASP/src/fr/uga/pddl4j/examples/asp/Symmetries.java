@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2021 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.examples.asp;
+
+import fr.uga.pddl4j.problem.Fluent;
+import fr.uga.pddl4j.problem.Problem;
+import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.problem.operator.Action;
+import fr.uga.pddl4j.problem.operator.ConditionalEffect;
+import fr.uga.pddl4j.util.BitVector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This class implements the detection of object symmetries of an instantiated problem and the computation of
+ * canonical states. A symmetry is a transposition of two objects that maps the initial state, the goal and
+ * the set of actions of the problem onto themselves. Two states mapped onto each other by a composition of
+ * symmetries have the same distance to the goal, so the search needs to explore only one of them. The
+ * canonical form of a state is computed greedily by applying the symmetries as long as they produce a
+ * lexicographically smaller state. Two states with the same canonical form are symmetric, but two symmetric
+ * states may have different canonical forms.
+ *
+ * @author J-B. Arbaut, C. Tropel
+ * @version 1.0 - 18.10.2026
+ */
+public final class Symmetries {
+
+    /**
+     * The symmetries of the problem expressed as permutations of the fluents.
+     */
+    private final List<int[]> generators;
+
+    /**
+     * The pairs of objects exchanged by the symmetries.
+     */
+    private final List<String> transpositions;
+
+    /**
+     * Detects the symmetries of a specified problem.
+     *
+     * @param problem the instantiated problem.
+     */
+    public Symmetries(final Problem problem) {
+        this.generators = new ArrayList<>();
+        this.transpositions = new ArrayList<>();
+        final List<Fluent> fluents = problem.getFluents();
+        final Map<List<Integer>, Integer> index = new HashMap<>();
+        for (int f = 0; f < fluents.size(); f++) {
+            index.put(Symmetries.key(fluents.get(f).getSymbol(), fluents.get(f).getArguments()), f);
+        }
+        final Set<List<Object>> actions = new HashSet<>();
+        for (Action a : problem.getActions()) {
+            actions.add(Symmetries.signature(a, null));
+        }
+        final BitVector init = problem.getInitialState().getPositiveFluents();
+        final List<String> objects = problem.getConstantSymbols();
+        for (int o1 = 0; o1 < objects.size(); o1++) {
+            for (int o2 = o1 + 1; o2 < objects.size(); o2++) {
+                final int[] permutation = Symmetries.permutation(fluents, index, o1, o2);
+                if (permutation != null
+                    && Symmetries.isInvariant(permutation, problem, init, actions)) {
+                    this.generators.add(permutation);
+                    this.transpositions.add("(" + objects.get(o1) + " " + objects.get(o2) + ")");
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of symmetries detected.
+     *
+     * @return the number of symmetries detected.
+     */
+    public int size() {
+        return this.generators.size();
+    }
+
+    /**
+     * Returns the pairs of objects exchanged by the symmetries detected.
+     *
+     * @return the pairs of objects exchanged by the symmetries detected.
+     */
+    public List<String> getTranspositions() {
+        return this.transpositions;
+    }
+
+    /**
+     * Returns the canonical form of a specified state.
+     *
+     * @param state the state.
+     * @return the canonical form of the state or the state itself if no symmetry was detected.
+     */
+    public State canonicalize(final State state) {
+        State canonical = state;
+        boolean changed = !this.generators.isEmpty();
+        while (changed) {
+            changed = false;
+            for (int[] permutation : this.generators) {
+                final State image = new State();
+                Symmetries.apply(permutation, canonical, image);
+                if (Symmetries.isSmaller(image, canonical)) {
+                    canonical = image;
+                    changed = true;
+                }
+            }
+        }
+        return canonical;
+    }
+
+    /**
+     * Returns the permutation of the fluents induced by the transposition of two objects.
+     *
+     * @param fluents the fluents of the problem.
+     * @param index   the index of each fluent.
+     * @param o1      the first object.
+     * @param o2      the second object.
+     * @return the permutation of the fluents or null if the image of a fluent is not a fluent of the problem.
+     */
+    private static int[] permutation(final List<Fluent> fluents, final Map<List<Integer>, Integer> index,
+                                     final int o1, final int o2) {
+        final int[] permutation = new int[fluents.size()];
+        for (int f = 0; f < fluents.size(); f++) {
+            final Fluent fluent = fluents.get(f);
+            final int[] arguments = fluent.getArguments().clone();
+            boolean moved = false;
+            for (int i = 0; i < arguments.length; i++) {
+                if (arguments[i] == o1) {
+                    arguments[i] = o2;
+                    moved = true;
+                } else if (arguments[i] == o2) {
+                    arguments[i] = o1;
+                    moved = true;
+                }
+            }
+            if (moved) {
+                final Integer image = index.get(Symmetries.key(fluent.getSymbol(), arguments));
+                if (image == null) {
+                    return null;
+                }
+                permutation[f] = image;
+            } else {
+                permutation[f] = f;
+            }
+        }
+        return permutation;
+    }
+
+    /**
+     * Returns the key of a fluent in the index of the fluents, i.e., its predicate symbol followed by its
+     * arguments.
+     *
+     * @param symbol    the predicate symbol of the fluent.
+     * @param arguments the arguments of the fluent.
+     * @return the key of the fluent.
+     */
+    private static List<Integer> key(final int symbol, final int[] arguments) {
+        final List<Integer> key = new ArrayList<>(arguments.length + 1);
+        key.add(symbol);
+        for (int argument : arguments) {
+            key.add(argument);
+        }
+        return key;
+    }
+
+    /**
+     * Returns if a permutation of the fluents maps the initial state, the goal and the actions of a problem
+     * onto themselves.
+     *
+     * @param permutation the permutation of the fluents.
+     * @param problem     the problem.
+     * @param init        the initial state of the problem.
+     * @param actions     the signatures of the actions of the problem.
+     * @return <code>true</code> if the permutation is a symmetry of the problem, <code>false</code> otherwise.
+     */
+    private static boolean isInvariant(final int[] permutation, final Problem problem, final BitVector init,
+                                       final Set<List<Object>> actions) {
+        if (!Symmetries.map(init, permutation).equals(init)
+            || !Symmetries.map(problem.getGoal().getPositiveFluents(), permutation)
+                .equals(problem.getGoal().getPositiveFluents())
+            || !Symmetries.map(problem.getGoal().getNegativeFluents(), permutation)
+                .equals(problem.getGoal().getNegativeFluents())) {
+            return false;
+        }
+        for (Action a : problem.getActions()) {
+            if (!actions.contains(Symmetries.signature(a, permutation))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the signature of the image of an action by a permutation of the fluents, i.e., its precondition
+     * and its set of conditional effects.
+     *
+     * @param action      the action.
+     * @param permutation the permutation or null for the identity.
+     * @return the signature of the image of the action.
+     */
+    private static List<Object> signature(final Action action, final int[] permutation) {
+        final Set<List<BitVector>> effects = new HashSet<>();
+        for (ConditionalEffect ce : action.getConditionalEffects()) {
+            effects.add(Arrays.asList(
+                Symmetries.map(ce.getCondition().getPositiveFluents(), permutation),
+                Symmetries.map(ce.getCondition().getNegativeFluents(), permutation),
+                Symmetries.map(ce.getEffect().getPositiveFluents(), permutation),
+                Symmetries.map(ce.getEffect().getNegativeFluents(), permutation)));
+        }
+        return Arrays.asList(
+            Symmetries.map(action.getPrecondition().getPositiveFluents(), permutation),
+            Symmetries.map(action.getPrecondition().getNegativeFluents(), permutation),
+            effects);
+    }
+
+    /**
+     * Returns the image of a set of fluents by a permutation.
+     *
+     * @param fluents     the set of fluents.
+     * @param permutation the permutation or null for the identity.
+     * @return the image of the set of fluents.
+     */
+    private static BitVector map(final BitVector fluents, final int[] permutation) {
+        final BitVector image = new BitVector();
+        if (permutation == null) {
+            image.or(fluents);
+        } else {
+            Symmetries.apply(permutation, fluents, image);
+        }
+        return image;
+    }
+
+    /**
+     * Sets in a bit vector the image of a set of fluents by a permutation.
+     *
+     * @param permutation the permutation.
+     * @param fluents     the set of fluents.
+     * @param image       the bit vector receiving the image.
+     */
+    private static void apply(final int[] permutation, final BitVector fluents, final BitVector image) {
+        for (int f = fluents.nextSetBit(0); f >= 0 && f < permutation.length; f = fluents.nextSetBit(f + 1)) {
+            image.set(permutation[f]);
+        }
+    }
+
+    /**
+     * Returns if a state is lexicographically smaller than another, i.e., if it contains the smallest fluent
+     * on which the two states differ.
+     *
+     * @param s1 the first state.
+     * @param s2 the second state.
+     * @return <code>true</code> if the first state is smaller, <code>false</code> otherwise.
+     */
+    private static boolean isSmaller(final State s1, final State s2) {
+        final BitVector difference = new BitVector(s1);
+        difference.xor(s2);
+        final int f = difference.nextSetBit(0);
+        return f >= 0 && s1.get(f);
+    }
+
+}